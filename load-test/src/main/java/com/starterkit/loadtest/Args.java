@@ -0,0 +1,64 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Minimal {@code --name value} command line parser shared by the load-test tools.
+ */
+final class Args {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    private Args() {
+    }
+
+    static Args parse(String[] args) {
+        Args parsed = new Args();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int equals = arg.indexOf('=');
+            if (equals > 0) {
+                parsed.values.put(arg.substring(2, equals), arg.substring(equals + 1));
+            } else if (i + 1 < args.length && !args[i + 1].startsWith("--")) {
+                parsed.values.put(arg.substring(2), args[++i]);
+            } else {
+                parsed.values.put(arg.substring(2), "true");
+            }
+        }
+        return parsed;
+    }
+
+    String get(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    String require(String name) {
+        String value = values.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing required argument --" + name);
+        }
+        return value;
+    }
+
+    int getInt(String name, int defaultValue) {
+        return values.containsKey(name) ? Integer.parseInt(values.get(name)) : defaultValue;
+    }
+
+    long getLong(String name, long defaultValue) {
+        return values.containsKey(name) ? Long.parseLong(values.get(name)) : defaultValue;
+    }
+
+    Duration getDuration(String name, Duration defaultValue) {
+        return values.containsKey(name) ? Duration.parse(values.get(name)) : defaultValue;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.loadtest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic source of field values that satisfy the API's ProductRequest
+ * and CategoryRequest constraints. Shared by the JDBC seeder and the HTTP
+ * payload factory so seeded and generated rows look alike.
+ */
+final class CatalogData {
+
+    private static final String[] ADJECTIVES = {
+        "Compact", "Wireless", "Smart", "Portable", "Premium", "Classic", "Ultra", "Eco", "Pro", "Mini"
+    };
+    private static final String[] NOUNS = {
+        "Speaker", "Headphones", "Lamp", "Backpack", "Keyboard", "Monitor", "Bottle", "Charger", "Camera", "Watch"
+    };
+    private static final String[] TAGS = {
+        "new", "sale", "popular", "eco", "premium", "gift", "outdoor", "office", "travel", "kids"
+    };
+    private static final String SKU_ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    private CatalogData() {
+    }
+
+    static String categoryName(long index) {
+        return "Category " + index;
+    }
+
+    static String categoryDescription(long index) {
+        return "Synthetic category number " + index;
+    }
+
+    static String productName(Random random, long index) {
+        return ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + NOUNS[random.nextInt(NOUNS.length)] + " " + index;
+    }
+
+    static double price(Random random) {
+        return Math.round((1 + random.nextDouble() * 9999) * 100) / 100.0;
+    }
+
+    static Integer discountPercentage(Random random) {
+        return random.nextInt(4) == 0 ? null : random.nextInt(81);
+    }
+
+    static String email(long index) {
+        return "warranty" + index + "@example.com";
+    }
+
+    static LocalDate availabilityDate(Random random) {
+        return LocalDate.now().plusDays(1 + random.nextInt(365));
+    }
+
+    static LocalDate createdAt(Random random) {
+        return LocalDate.now().minusDays(1 + random.nextInt(3650));
+    }
+
+    static List<String> tags(Random random) {
+        int count = random.nextInt(6);
+        List<String> tags = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tags.add(TAGS[random.nextInt(TAGS.length)]);
+        }
+        return tags;
+    }
+
+    /**
+     * SKU derived from the row index in base 36, left-padded with zeros. Never
+     * starts with 'Z' below 36^7 rows, which leaves that prefix to {@link #randomSku}.
+     */
+    static String seededSku(long index) {
+        StringBuilder sku = new StringBuilder(Long.toString(index, 36).toUpperCase());
+        while (sku.length() < 8) {
+            sku.insert(0, '0');
+        }
+        return sku.toString();
+    }
+
+    static String randomSku(Random random) {
+        StringBuilder sku = new StringBuilder("Z");
+        for (int i = 1; i < 8; i++) {
+            sku.append(SKU_ALPHABET.charAt(random.nextInt(SKU_ALPHABET.length())));
+        }
+        return sku.toString();
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.loadtest;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+
+/**
+ * Seeds the categories, products and product_tags tables with a synthetic,
+ * reproducible catalog using batched JDBC inserts.
+ * <p>
+ * The schema must already exist: start the application with the
+ * {@code loadtest} profile first so Hibernate creates it in the shared H2 file.
+ * Rows are appended after the current maximum ids, and the identity columns are
+ * moved past the new rows so the application keeps generating valid ids.
+ *
+ * <pre>
+ * mvn -Pseed exec:java -Dloadtest.args="--products 1000000 --categories 500"
+ * </pre>
+ */
+public final class CatalogGenerator {
+
+    private static final String INSERT_CATEGORY =
+            "INSERT INTO categories (id, name, description) VALUES (?, ?, ?)";
+    private static final String INSERT_PRODUCT =
+            "INSERT INTO products (id, name, price, category_id, sku, email_for_warranty, discount_percentage, "
+                    + "availability_date, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_TAG =
+            "INSERT INTO product_tags (product_id, tag) VALUES (?, ?)";
+
+    private CatalogGenerator() {
+    }
+
+    public static void main(String[] argv) throws SQLException, IOException {
+        Args args = Args.parse(argv);
+        String jdbcUrl = args.get("jdbc-url", "jdbc:h2:file:../target/loadtest-db;AUTO_SERVER=TRUE");
+        long categories = args.getLong("categories", 1_000);
+        long products = args.getLong("products", 100_000);
+        int batchSize = args.getInt("batch-size", 5_000);
+        long seed = args.getLong("seed", 42);
+        Path seedFile = Path.of(args.get("seed-file", "target/loadtest-seed.properties"));
+
+        if (categories < 1 || products < 0) {
+            throw new IllegalArgumentException("--categories must be positive and --products must not be negative");
+        }
+
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, args.get("user", "sa"), args.get("password", ""))) {
+            connection.setAutoCommit(false);
+            Random random = new Random(seed);
+            long started = System.nanoTime();
+
+            long firstCategoryId = maxId(connection, "categories") + 1;
+            long firstProductId = maxId(connection, "products") + 1;
+
+            insertCategories(connection, firstCategoryId, categories, batchSize);
+            long tags = insertProducts(connection, random, firstProductId, products, firstCategoryId, categories, batchSize);
+
+            restartIdentity(connection, "categories", firstCategoryId + categories);
+            restartIdentity(connection, "products", firstProductId + products);
+            connection.commit();
+
+            double seconds = (System.nanoTime() - started) / 1e9;
+            System.out.printf("Seeded %,d categories, %,d products and %,d tags in %.1f s (%,.0f products/s)%n",
+                    categories, products, tags, seconds, products / seconds);
+
+            writeSeedFile(seedFile, firstCategoryId, firstCategoryId + categories - 1,
+                    firstProductId, firstProductId + products - 1, seed);
+        }
+    }
+
+    private static void insertCategories(Connection connection, long firstId, long count, int batchSize) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_CATEGORY)) {
+            for (long i = 0; i < count; i++) {
+                long id = firstId + i;
+                statement.setLong(1, id);
+                statement.setString(2, CatalogData.categoryName(id));
+                statement.setString(3, CatalogData.categoryDescription(id));
+                statement.addBatch();
+                if ((i + 1) % batchSize == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private static long insertProducts(Connection connection, Random random, long firstId, long count,
+                                       long firstCategoryId, long categories, int batchSize) throws SQLException {
+        long tagCount = 0;
+        try (PreparedStatement productStatement = connection.prepareStatement(INSERT_PRODUCT);
+             PreparedStatement tagStatement = connection.prepareStatement(INSERT_TAG)) {
+
+            for (long i = 0; i < count; i++) {
+                long id = firstId + i;
+                productStatement.setLong(1, id);
+                productStatement.setString(2, CatalogData.productName(random, id));
+                productStatement.setDouble(3, CatalogData.price(random));
+                productStatement.setLong(4, firstCategoryId + Math.floorMod(random.nextLong(), categories));
+                productStatement.setString(5, CatalogData.seededSku(id));
+                productStatement.setString(6, CatalogData.email(id));
+                Integer discount = CatalogData.discountPercentage(random);
+                if (discount == null) {
+                    productStatement.setNull(7, Types.INTEGER);
+                } else {
+                    productStatement.setInt(7, discount);
+                }
+                productStatement.setDate(8, Date.valueOf(CatalogData.availabilityDate(random)));
+                productStatement.setTimestamp(9, Timestamp.valueOf(CatalogData.createdAt(random).atStartOfDay()));
+                productStatement.addBatch();
+
+                List<String> tags = CatalogData.tags(random);
+                for (String tag : tags) {
+                    tagStatement.setLong(1, id);
+                    tagStatement.setString(2, tag);
+                    tagStatement.addBatch();
+                }
+                tagCount += tags.size();
+
+                if ((i + 1) % batchSize == 0) {
+                    productStatement.executeBatch();
+                    tagStatement.executeBatch();
+                    connection.commit();
+                }
+                if ((i + 1) % 1_000_000 == 0) {
+                    System.out.printf("  %,d products written%n", i + 1);
+                }
+            }
+            productStatement.executeBatch();
+            tagStatement.executeBatch();
+            connection.commit();
+        }
+        return tagCount;
+    }
+
+    private static long maxId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static void restartIdentity(Connection connection, String table, long next) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+        }
+    }
+
+    private static void writeSeedFile(Path seedFile, long firstCategoryId, long lastCategoryId,
+                                      long firstProductId, long lastProductId, long seed) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("category.first-id", Long.toString(firstCategoryId));
+        properties.setProperty("category.last-id", Long.toString(lastCategoryId));
+        properties.setProperty("product.first-id", Long.toString(firstProductId));
+        properties.setProperty("product.last-id", Long.toString(lastProductId));
+        properties.setProperty("seed", Long.toString(seed));
+
+        if (seedFile.getParent() != null) {
+            Files.createDirectories(seedFile.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(seedFile)) {
+            properties.store(writer, "Catalog generated by CatalogGenerator");
+        }
+        System.out.println("Seed ranges written to " + seedFile.toAbsolutePath());
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Collects per-scenario latency histograms and status counts during a run and
+ * renders them as a console table and a JSON file that {@link ReportComparison}
+ * can diff against another run.
+ */
+final class LoadReport {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<Scenario, ScenarioStats> stats = new EnumMap<>(Scenario.class);
+
+    LoadReport() {
+        for (Scenario scenario : Scenario.values()) {
+            stats.put(scenario, new ScenarioStats());
+        }
+    }
+
+    void record(Scenario scenario, long latencyNanos, int status) {
+        ScenarioStats scenarioStats = stats.get(scenario);
+        scenarioStats.latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_TRACKABLE_MICROS));
+        if (status != scenario.expectedStatus()) {
+            scenarioStats.errors.increment();
+            scenarioStats.unexpectedStatuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+        }
+    }
+
+    void recordFailure(Scenario scenario) {
+        ScenarioStats scenarioStats = stats.get(scenario);
+        scenarioStats.errors.increment();
+        scenarioStats.unexpectedStatuses.computeIfAbsent(-1, s -> new LongAdder()).increment();
+    }
+
+    Map<String, Object> summarize(Map<String, Object> runInfo, double elapsedSeconds) {
+        Map<String, Object> summary = new LinkedHashMap<>(runInfo);
+        summary.put("elapsedSeconds", round(elapsedSeconds));
+
+        Map<String, Object> scenarios = new LinkedHashMap<>();
+        Histogram total = new Histogram(MAX_TRACKABLE_MICROS, 3);
+        long totalErrors = 0;
+        for (Map.Entry<Scenario, ScenarioStats> entry : stats.entrySet()) {
+            Histogram latency = entry.getValue().latency.copy();
+            if (latency.getTotalCount() == 0) {
+                continue;
+            }
+            long errors = entry.getValue().errors.sum();
+            Map<String, Object> line = describe(latency, errors, elapsedSeconds);
+            Map<String, Long> unexpected = new LinkedHashMap<>();
+            entry.getValue().unexpectedStatuses.forEach((status, count) ->
+                    unexpected.put(status < 0 ? "io-error" : String.valueOf(status), count.sum()));
+            if (!unexpected.isEmpty()) {
+                line.put("unexpectedStatuses", unexpected);
+            }
+            scenarios.put(entry.getKey().key(), line);
+            total.add(latency);
+            totalErrors += errors;
+        }
+        summary.put("scenarios", scenarios);
+        summary.put("total", describe(total, totalErrors, elapsedSeconds));
+        return summary;
+    }
+
+    static void print(Map<String, Object> summary, PrintStream out) {
+        out.printf("%n%-16s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, Object>> scenarios = (Map<String, Map<String, Object>>) summary.get("scenarios");
+        scenarios.forEach((name, line) -> printLine(out, name, line));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> total = (Map<String, Object>) summary.get("total");
+        printLine(out, "TOTAL", total);
+    }
+
+    static void write(Map<String, Object> summary, Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), summary);
+    }
+
+    private static void printLine(PrintStream out, String name, Map<String, Object> line) {
+        out.printf("%-16s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", name,
+                ((Number) line.get("requests")).longValue(), ((Number) line.get("errors")).longValue(),
+                number(line, "throughput"), number(line, "p50Ms"), number(line, "p90Ms"),
+                number(line, "p99Ms"), number(line, "p999Ms"), number(line, "maxMs"));
+    }
+
+    private static double number(Map<String, Object> line, String key) {
+        return ((Number) line.get(key)).doubleValue();
+    }
+
+    private static Map<String, Object> describe(Histogram latency, long errors, double elapsedSeconds) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("requests", latency.getTotalCount());
+        line.put("errors", errors);
+        line.put("throughput", round(latency.getTotalCount() / elapsedSeconds));
+        line.put("p50Ms", millis(latency.getValueAtPercentile(50)));
+        line.put("p90Ms", millis(latency.getValueAtPercentile(90)));
+        line.put("p99Ms", millis(latency.getValueAtPercentile(99)));
+        line.put("p999Ms", millis(latency.getValueAtPercentile(99.9)));
+        line.put("maxMs", millis(latency.getMaxValue()));
+        return line;
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static final class ScenarioStats {
+
+        private final ConcurrentHistogram latency = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final Map<Integer, LongAdder> unexpectedStatuses = new ConcurrentHashMap<>();
+    }
+}
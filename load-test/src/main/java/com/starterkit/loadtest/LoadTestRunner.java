@@ -0,0 +1,291 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Closed-loop HTTP load generator for the product and category API.
+ * <p>
+ * A fixed number of workers each pick a scenario from the configured mix,
+ * issue the request and record its latency until the run ends. A warmup phase
+ * runs first and is not recorded. Results are printed as a percentile table
+ * and written as JSON so runs can be compared with {@link ReportComparison}.
+ *
+ * <pre>
+ * mvn exec:java -Dloadtest.args="--duration PT60S --threads 32"
+ * </pre>
+ */
+public final class LoadTestRunner {
+
+    private static final int MAX_DELETABLE_IDS = 100_000;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PayloadFactory payloads = new PayloadFactory(objectMapper);
+    private final String baseUrl;
+    private final ScenarioMix mix;
+
+    private long[] categoryIds;
+    private long seededFirstProductId = -1;
+    private long seededLastProductId = -1;
+    /** Products created by this run; deletes consume them so seeded rows stay updatable. */
+    private final ConcurrentLinkedDeque<Long> deletableIds = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger deletableCount = new AtomicInteger();
+
+    private LoadTestRunner(String baseUrl, ScenarioMix mix, int threads) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.mix = mix;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(2, threads / 4), daemonThreads("http-client")))
+                .build();
+    }
+
+    public static void main(String[] argv) throws Exception {
+        Args args = Args.parse(argv);
+        String baseUrl = args.get("base-url", "http://localhost:8080");
+        int threads = args.getInt("threads", 32);
+        Duration warmup = args.getDuration("warmup", Duration.ofSeconds(10));
+        Duration duration = args.getDuration("duration", Duration.ofSeconds(60));
+        long seed = args.getLong("seed", 42);
+        ScenarioMix mix = ScenarioMix.parse(args.get("mix", ScenarioMix.DEFAULT));
+        Path seedFile = Path.of(args.get("seed-file", "target/loadtest-seed.properties"));
+        String label = args.get("label", "run");
+        Path reportFile = Path.of(args.get("report", "target/loadtest-" + label + "-"
+                + DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC).format(Instant.now()) + ".json"));
+
+        Map<String, Object> summary = run(baseUrl, threads, warmup, duration, seed, mix, seedFile, label);
+        LoadReport.print(summary, System.out);
+        LoadReport.write(summary, reportFile);
+        System.out.println("\nReport written to " + reportFile.toAbsolutePath());
+    }
+
+    /**
+     * Runs one warmup and one measured phase against {@code baseUrl} and returns
+     * the measured summary. Also used by {@link ReportComparison} to run the same
+     * mix against two servers.
+     */
+    static Map<String, Object> run(String baseUrl, int threads, Duration warmup, Duration duration, long seed,
+                                   ScenarioMix mix, Path seedFile, String label) throws Exception {
+        LoadTestRunner runner = new LoadTestRunner(baseUrl, mix, threads);
+        runner.prepare(seedFile);
+
+        System.out.printf("[%s] Warming up %s for %s with %d threads%n", label, baseUrl, warmup, threads);
+        runner.phase(threads, warmup, seed, new LoadReport());
+
+        System.out.printf("[%s] Measuring for %s, mix: %s%n", label, duration, mix);
+        LoadReport report = new LoadReport();
+        Instant startedAt = Instant.now();
+        long started = System.nanoTime();
+        runner.phase(threads, duration, seed + threads, report);
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        Map<String, Object> runInfo = new LinkedHashMap<>();
+        runInfo.put("label", label);
+        runInfo.put("baseUrl", baseUrl);
+        runInfo.put("startedAt", startedAt.toString());
+        runInfo.put("threads", threads);
+        runInfo.put("warmup", warmup.toString());
+        runInfo.put("duration", duration.toString());
+        runInfo.put("seed", seed);
+        runInfo.put("mix", mix.toString());
+        runInfo.put("categories", runner.categoryIds.length);
+        runInfo.put("seededProducts", runner.seededLastProductId < 0 ? 0
+                : runner.seededLastProductId - runner.seededFirstProductId + 1);
+        return report.summarize(runInfo, elapsedSeconds);
+    }
+
+    private void prepare(Path seedFile) throws IOException, InterruptedException {
+        if (Files.exists(seedFile)) {
+            Properties seed = new Properties();
+            try (Reader reader = Files.newBufferedReader(seedFile)) {
+                seed.load(reader);
+            }
+            long firstCategory = Long.parseLong(seed.getProperty("category.first-id"));
+            long lastCategory = Long.parseLong(seed.getProperty("category.last-id"));
+            categoryIds = new long[(int) (lastCategory - firstCategory + 1)];
+            for (int i = 0; i < categoryIds.length; i++) {
+                categoryIds[i] = firstCategory + i;
+            }
+            seededFirstProductId = Long.parseLong(seed.getProperty("product.first-id"));
+            seededLastProductId = Long.parseLong(seed.getProperty("product.last-id"));
+
+            // Rows were written behind the application's back; the statistics endpoint is optional.
+            send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/categories/statistics/rebuild"))
+                    .POST(HttpRequest.BodyPublishers.noBody()), HttpResponse.BodyHandlers.discarding());
+            System.out.printf("Using seeded catalog from %s: %d categories, products %d..%d%n",
+                    seedFile, categoryIds.length, seededFirstProductId, seededLastProductId);
+            return;
+        }
+
+        categoryIds = fetchCategoryIds();
+        if (categoryIds.length == 0) {
+            long suffix = System.currentTimeMillis();
+            for (int i = 0; i < 10; i++) {
+                send(jsonRequest("/api/categories").POST(HttpRequest.BodyPublishers.ofString(payloads.category(suffix + i))),
+                        HttpResponse.BodyHandlers.discarding());
+            }
+            categoryIds = fetchCategoryIds();
+        }
+        if (categoryIds.length == 0) {
+            throw new IllegalStateException("No categories available at " + baseUrl);
+        }
+        System.out.printf("No seed file at %s, using %d categories from the API%n", seedFile, categoryIds.length);
+    }
+
+    private long[] fetchCategoryIds() throws IOException, InterruptedException {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/categories"))
+                .header("Accept", "application/json").GET(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET /api/categories returned " + response.statusCode());
+        }
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode category : objectMapper.readTree(response.body())) {
+            ids.add(category.get("id").asLong());
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private void phase(int threads, Duration duration, long seed, LoadReport report) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(threads, daemonThreads("load-worker"));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                Random random = new Random(seed + i);
+                futures.add(workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        execute(mix.pick(random), random, report);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private void execute(Scenario scenario, Random random, LoadReport report) throws InterruptedException {
+        HttpRequest.Builder request;
+        switch (scenario) {
+            case LIST_CATEGORIES -> request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/categories")).GET();
+            case LIST_PRODUCTS -> request = HttpRequest.newBuilder(URI.create(baseUrl + Scenario.LIST_PRODUCTS_PATH)).GET();
+            case CREATE_PRODUCT -> request = jsonRequest("/api/products")
+                    .POST(HttpRequest.BodyPublishers.ofString(payloads.validProduct(random, randomCategory(random))));
+            case CREATE_INVALID_PRODUCT -> request = jsonRequest("/api/products")
+                    .POST(HttpRequest.BodyPublishers.ofString(payloads.invalidProduct(random, randomCategory(random))));
+            case UPDATE_PRODUCT -> {
+                Long target = updatableId(random);
+                if (target == null) {
+                    execute(Scenario.CREATE_PRODUCT, random, report);
+                    return;
+                }
+                request = jsonRequest("/api/products/" + target)
+                        .PUT(HttpRequest.BodyPublishers.ofString(payloads.validProduct(random, randomCategory(random))));
+            }
+            case DELETE_PRODUCT -> {
+                Long target = deletableIds.pollFirst();
+                if (target == null) {
+                    execute(Scenario.CREATE_PRODUCT, random, report);
+                    return;
+                }
+                deletableCount.decrementAndGet();
+                request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/products/" + target)).DELETE();
+            }
+            default -> throw new IllegalStateException("Unhandled scenario " + scenario);
+        }
+
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request.timeout(REQUEST_TIMEOUT).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            report.record(scenario, System.nanoTime() - started, response.statusCode());
+            if (scenario == Scenario.CREATE_PRODUCT && response.statusCode() == 201) {
+                rememberCreated(response.body());
+            }
+        } catch (IOException e) {
+            report.recordFailure(scenario);
+        }
+    }
+
+    private void rememberCreated(String body) {
+        if (deletableCount.get() >= MAX_DELETABLE_IDS) {
+            return;
+        }
+        try {
+            JsonNode id = objectMapper.readTree(body).get("id");
+            if (id != null) {
+                deletableIds.addLast(id.asLong());
+                deletableCount.incrementAndGet();
+            }
+        } catch (IOException e) {
+            // Not worth failing the run over; the product just won't be deleted later.
+        }
+    }
+
+    private Long updatableId(Random random) {
+        if (seededLastProductId >= seededFirstProductId && seededFirstProductId > 0) {
+            return seededFirstProductId + (long) (random.nextDouble() * (seededLastProductId - seededFirstProductId + 1));
+        }
+        return deletableIds.peekLast();
+    }
+
+    private long randomCategory(Random random) {
+        return categoryIds[random.nextInt(categoryIds.length)];
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private HttpRequest.Builder jsonRequest(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest.Builder request, HttpResponse.BodyHandler<T> handler)
+            throws IOException, InterruptedException {
+        return client.send(request.timeout(REQUEST_TIMEOUT).build(), handler);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Builds JSON bodies for ProductRequest: valid ones for creates and updates,
+ * and ones that break exactly one OnCreate constraint for the negative path.
+ */
+final class PayloadFactory {
+
+    private static final List<Consumer<Map<String, Object>>> VIOLATIONS = List.of(
+            body -> body.put("name", " "),
+            body -> body.put("price", 0),
+            body -> body.put("price", 20_000),
+            body -> body.put("sku", "ab12"),
+            body -> body.put("discountPercentage", 95),
+            body -> body.put("emailForWarranty", "not-an-email"),
+            body -> body.put("tags", List.of("a", "b", "c", "d", "e", "f")),
+            body -> body.put("availabilityDate", "2000-01-01"),
+            body -> body.remove("categoryId")
+    );
+
+    private final ObjectMapper objectMapper;
+
+    PayloadFactory(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    String validProduct(Random random, long categoryId) {
+        return toJson(productBody(random, categoryId));
+    }
+
+    String invalidProduct(Random random, long categoryId) {
+        Map<String, Object> body = productBody(random, categoryId);
+        VIOLATIONS.get(random.nextInt(VIOLATIONS.size())).accept(body);
+        return toJson(body);
+    }
+
+    String category(long index) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("name", CatalogData.categoryName(index));
+        body.put("description", CatalogData.categoryDescription(index));
+        return toJson(body);
+    }
+
+    private Map<String, Object> productBody(Random random, long categoryId) {
+        long index = random.nextInt(Integer.MAX_VALUE);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("name", CatalogData.productName(random, index));
+        body.put("price", CatalogData.price(random));
+        body.put("categoryId", categoryId);
+        body.put("tags", CatalogData.tags(random));
+        body.put("emailForWarranty", CatalogData.email(index));
+        body.put("discountPercentage", CatalogData.discountPercentage(random));
+        body.put("availabilityDate", CatalogData.availabilityDate(random).toString());
+        body.put("createdAt", CatalogData.createdAt(random).toString());
+        body.put("sku", CatalogData.randomSku(random));
+        return body;
+    }
+
+    private String toJson(Map<String, Object> body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
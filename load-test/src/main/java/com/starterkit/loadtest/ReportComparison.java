@@ -0,0 +1,118 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Prints two load-test results side by side with the relative change of each
+ * metric.
+ * <p>
+ * Either compares two saved reports:
+ * <pre>
+ * mvn -Pcompare exec:java -Dloadtest.args="--baseline target/a.json --candidate target/b.json"
+ * </pre>
+ * or runs the same mix against two live servers one after the other:
+ * <pre>
+ * mvn -Pcompare exec:java -Dloadtest.args="--baseline-url http://localhost:8080 --candidate-url http://localhost:8081"
+ * </pre>
+ * Nothing is reset between the two live runs: if both servers share a
+ * database, the candidate starts from the rows the baseline's writes left.
+ */
+public final class ReportComparison {
+
+    private static final String[] METRICS = {"throughput", "p50Ms", "p90Ms", "p99Ms", "p999Ms", "maxMs"};
+
+    private ReportComparison() {
+    }
+
+    public static void main(String[] argv) throws Exception {
+        Args args = Args.parse(argv);
+        Map<String, Object> baseline;
+        Map<String, Object> candidate;
+
+        if (args.get("baseline-url", null) != null) {
+            int threads = args.getInt("threads", 32);
+            Duration warmup = args.getDuration("warmup", Duration.ofSeconds(10));
+            Duration duration = args.getDuration("duration", Duration.ofSeconds(60));
+            long seed = args.getLong("seed", 42);
+            ScenarioMix mix = ScenarioMix.parse(args.get("mix", ScenarioMix.DEFAULT));
+            Path seedFile = Path.of(args.get("seed-file", "target/loadtest-seed.properties"));
+
+            baseline = LoadTestRunner.run(args.require("baseline-url"), threads, warmup, duration, seed, mix, seedFile,
+                    args.get("baseline-label", "baseline"));
+            candidate = LoadTestRunner.run(args.require("candidate-url"), threads, warmup, duration, seed, mix, seedFile,
+                    args.get("candidate-label", "candidate"));
+            LoadReport.write(baseline, Path.of("target/loadtest-" + baseline.get("label") + ".json"));
+            LoadReport.write(candidate, Path.of("target/loadtest-" + candidate.get("label") + ".json"));
+        } else {
+            baseline = read(Path.of(args.require("baseline")));
+            candidate = read(Path.of(args.require("candidate")));
+        }
+
+        compare(baseline, candidate, System.out);
+    }
+
+    static void compare(Map<String, Object> baseline, Map<String, Object> candidate, PrintStream out) {
+        out.printf("%nbaseline:  %s (%s)%ncandidate: %s (%s)%n",
+                baseline.get("label"), baseline.get("baseUrl"), candidate.get("label"), candidate.get("baseUrl"));
+        out.printf("%n%-16s %-11s %12s %12s %9s%n", "scenario", "metric", "baseline", "candidate", "change");
+
+        Map<String, Map<String, Object>> baselineScenarios = scenarios(baseline);
+        Map<String, Map<String, Object>> candidateScenarios = scenarios(candidate);
+        Set<String> names = new LinkedHashSet<>(baselineScenarios.keySet());
+        names.addAll(candidateScenarios.keySet());
+        names.add("TOTAL");
+
+        for (String name : names) {
+            Map<String, Object> left = lookup(baseline, baselineScenarios, name);
+            Map<String, Object> right = lookup(candidate, candidateScenarios, name);
+            for (String metric : METRICS) {
+                double before = value(left, metric);
+                double after = value(right, metric);
+                String change = before == 0 ? "n/a" : String.format("%+.1f%%", (after - before) * 100 / before);
+                out.printf("%-16s %-11s %12.2f %12.2f %9s%n", name, metric, before, after, change);
+            }
+            out.printf("%-16s %-11s %12.0f %12.0f%n", name, "errors", value(left, "errors"), value(right, "errors"));
+        }
+    }
+
+    private static Map<String, Object> lookup(Map<String, Object> report,
+                                              Map<String, Map<String, Object>> scenarios, String name) {
+        if ("TOTAL".equals(name)) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> total = (Map<String, Object>) report.get("total");
+            return total;
+        }
+        return scenarios.get(name);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Map<String, Object>> scenarios(Map<String, Object> report) {
+        return (Map<String, Map<String, Object>>) report.get("scenarios");
+    }
+
+    private static double value(Map<String, Object> line, String metric) {
+        if (line == null || !(line.get(metric) instanceof Number number)) {
+            return 0;
+        }
+        return number.doubleValue();
+    }
+
+    private static Map<String, Object> read(Path file) throws IOException {
+        return new ObjectMapper().readValue(file.toFile(), new TypeReference<Map<String, Object>>() {
+        });
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Operations issued by the load generator, with the status code that counts
+ * as success for each of them.
+ */
+enum Scenario {
+
+    LIST_CATEGORIES("listCategories", 200),
+    LIST_PRODUCTS("listProducts", 200),
+    CREATE_PRODUCT("create", 201),
+    CREATE_INVALID_PRODUCT("createInvalid", 400),
+    UPDATE_PRODUCT("update", 200),
+    DELETE_PRODUCT("delete", 204);
+
+    /**
+     * The product list is not paginated, so even the projected listing reads
+     * the whole catalog. Only part of the default mix when asked for.
+     */
+    static final String LIST_PRODUCTS_PATH = "/api/products?fields=id,name,price,sku";
+
+    private final String key;
+    private final int expectedStatus;
+
+    Scenario(String key, int expectedStatus) {
+        this.key = key;
+        this.expectedStatus = expectedStatus;
+    }
+
+    String key() {
+        return key;
+    }
+
+    int expectedStatus() {
+        return expectedStatus;
+    }
+
+    static Scenario fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown scenario '" + key + "', expected one of "
+                        + Arrays.stream(values()).map(Scenario::key).toList()));
+    }
+}
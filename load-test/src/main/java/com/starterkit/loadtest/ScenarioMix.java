@@ -0,0 +1,71 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Weighted choice between scenarios, parsed from {@code name=weight,...}.
+ */
+final class ScenarioMix {
+
+    /** Leaves out listProducts, which reads the whole catalog; see {@link Scenario#LIST_PRODUCTS_PATH}. */
+    static final String DEFAULT =
+            "listCategories=15,create=30,createInvalid=10,update=30,delete=15";
+
+    private final Scenario[] scenarios;
+    private final int[] cumulativeWeights;
+    private final String description;
+
+    private ScenarioMix(Map<Scenario, Integer> weights, String description) {
+        this.scenarios = weights.keySet().toArray(new Scenario[0]);
+        this.cumulativeWeights = new int[scenarios.length];
+        int total = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            total += weights.get(scenarios[i]);
+            cumulativeWeights[i] = total;
+        }
+        this.description = description;
+    }
+
+    static ScenarioMix parse(String spec) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + part + "', expected name=weight");
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Mix weights must not be negative: " + part);
+            }
+            if (weight > 0) {
+                weights.put(Scenario.fromKey(pair[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix must contain at least one scenario with a positive weight");
+        }
+        return new ScenarioMix(weights, spec);
+    }
+
+    Scenario pick(Random random) {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.reactive.controller;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.starterkit.api.dto.request.CategoryRequest;
+import com.starterkit.api.dto.response.CategoryResponse;
+import com.starterkit.reactive.service.CategoryService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/categories")
+@RequiredArgsConstructor
+@Tag(name = "Categories", description = "Create and read operations for categories")
+public class CategoryController {
+
+    private final CategoryService categoryService;
+
+    @Operation(
+        summary = "Create a new category",
+        description = "Creates a category using a CategoryRequest DTO",
+        responses = {
+            @ApiResponse(responseCode = "201", description = "Category successfully created"),
+            @ApiResponse(responseCode = "400", description = "Validation error", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "409", description = "Category already exists", content = @Content(schema = @Schema(hidden = true)))
+        }
+    )
+    @PostMapping(consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CategoryResponse>> createCategory(@Valid @RequestBody CategoryRequest request) {
+        return categoryService.createCategory(request)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    @Operation(
+        summary = "Get all categories",
+        description = "Streams all categories as a JSON array, or one category per line with Accept: application/x-ndjson"
+    )
+    @GetMapping(produces = {APPLICATION_JSON_VALUE, APPLICATION_NDJSON_VALUE})
+    public Flux<CategoryResponse> getAllCategories() {
+        return categoryService.getAllCategories();
+    }
+}
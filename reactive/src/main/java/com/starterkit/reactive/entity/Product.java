@@ -0,0 +1,47 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.reactive.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Row of the {@code products} table. Tags live in {@code product_tags} and are
+ * read and written separately, R2DBC has no element collections.
+ */
+@Table("products")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class Product {
+
+    @Id
+    Long id;
+
+    String name;
+
+    Double price;
+
+    Long categoryId;
+
+    String sku;
+
+    String emailForWarranty;
+
+    Integer discountPercentage;
+
+    LocalDate availabilityDate;
+
+    LocalDateTime createdAt;
+}
@@ -0,0 +1,17 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.reactive.repository;
+
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+import com.starterkit.reactive.entity.Category;
+
+import reactor.core.publisher.Mono;
+
+public interface CategoryRepository extends ReactiveCrudRepository<Category, Long> {
+
+    Mono<Boolean> existsByName(String name);
+}
@@ -0,0 +1,121 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.reactive.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.starterkit.api.dto.response.ProductResponse;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Queries that Spring Data derived methods cannot express: the product listing
+ * with category names and tags, and the {@code product_tags} rows.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductCatalogRepository {
+
+    private static final String PAGE_SQL = """
+            SELECT p.id, p.name, p.price, p.sku, p.email_for_warranty, p.discount_percentage,
+                   p.availability_date, c.name AS category
+            FROM products p JOIN categories c ON c.id = p.category_id
+            WHERE p.id > :after
+            ORDER BY p.id
+            LIMIT :limit""";
+
+    private static final String PAGE_TAGS_SQL =
+            "SELECT product_id, tag FROM product_tags WHERE product_id > :after AND product_id <= :last";
+
+    private static final String INSERT_TAG_SQL = "INSERT INTO product_tags (product_id, tag) VALUES (:productId, :tag)";
+
+    private static final String DELETE_TAGS_SQL = "DELETE FROM product_tags WHERE product_id = :productId";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Reads up to {@code limit} products with an id greater than
+     * {@code afterId}, in id order, then their tags with a single range query.
+     * Each page is fully read before the next one is requested, so a listing
+     * holds at most one connection at a time.
+     */
+    public Mono<List<ProductResponse>> findPage(long afterId, int limit) {
+        return databaseClient.sql(PAGE_SQL)
+                .bind("after", afterId)
+                .bind("limit", limit)
+                .map((row, metadata) -> ProductResponse.builder()
+                        .id(row.get("id", Long.class))
+                        .name(row.get("name", String.class))
+                        .price(row.get("price", Double.class))
+                        .sku(row.get("sku", String.class))
+                        .emailForWarranty(row.get("email_for_warranty", String.class))
+                        .discountPercentage(row.get("discount_percentage", Integer.class))
+                        .availabilityDate(row.get("availability_date", LocalDate.class))
+                        .category(row.get("category", String.class))
+                        .tags(new ArrayList<>(2))
+                        .build())
+                .all()
+                .collectList()
+                .flatMap(page -> page.isEmpty() ? Mono.just(page) : withTags(afterId, page));
+    }
+
+    private Mono<List<ProductResponse>> withTags(long afterId, List<ProductResponse> page) {
+        Map<Long, ProductResponse> byId = new HashMap<>(page.size() * 2);
+        for (ProductResponse product : page) {
+            byId.put(product.getId(), product);
+        }
+        return databaseClient.sql(PAGE_TAGS_SQL)
+                .bind("after", afterId)
+                .bind("last", page.get(page.size() - 1).getId())
+                .map((row, metadata) -> {
+                    // Products committed after the page was read can fall into the id range
+                    ProductResponse product = byId.get(row.get("product_id", Long.class));
+                    if (product != null) {
+                        product.getTags().add(row.get("tag", String.class));
+                    }
+                    return Boolean.TRUE;
+                })
+                .all()
+                .then()
+                .thenReturn(page);
+    }
+
+    public Mono<Void> insertTags(Long productId, List<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return Mono.empty();
+        }
+        return Flux.fromIterable(tags)
+                .concatMap(tag -> {
+                    DatabaseClient.GenericExecuteSpec insert = databaseClient.sql(INSERT_TAG_SQL)
+                            .bind("productId", productId);
+                    // Tag elements are only checked for blanks in the default validation group
+                    insert = tag != null ? insert.bind("tag", tag) : insert.bindNull("tag", String.class);
+                    return insert.fetch().rowsUpdated();
+                })
+                .then();
+    }
+
+    public Mono<Void> deleteTags(Long productId) {
+        return databaseClient.sql(DELETE_TAGS_SQL)
+                .bind("productId", productId)
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    public Mono<Void> replaceTags(Long productId, List<String> tags) {
+        return deleteTags(productId).then(insertTags(productId, tags));
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.reactive.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.starterkit.api.dto.request.CategoryRequest;
+import com.starterkit.api.dto.response.CategoryResponse;
+import com.starterkit.reactive.entity.Category;
+import com.starterkit.reactive.repository.CategoryRepository;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class CategoryService {
+
+    private final CategoryRepository categoryRepository;
+
+    @Transactional
+    public Mono<CategoryResponse> createCategory(CategoryRequest request) {
+        return categoryRepository.existsByName(request.getName())
+                .flatMap(exists -> exists
+                        ? Mono.<Category>error(new ResponseStatusException(HttpStatus.CONFLICT,
+                                "Category already exists: " + request.getName()))
+                        : categoryRepository.save(Category.builder()
+                                .name(request.getName())
+                                .description(request.getDescription())
+                                .build()))
+                .map(CategoryService::toResponse);
+    }
+
+    public Flux<CategoryResponse> getAllCategories() {
+        return categoryRepository.findAll().map(CategoryService::toResponse);
+    }
+
+    private static CategoryResponse toResponse(Category category) {
+        return new CategoryResponse(category.getId(), category.getName(), category.getDescription());
+    }
+}
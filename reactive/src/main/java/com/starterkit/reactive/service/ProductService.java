@@ -0,0 +1,123 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.reactive.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.starterkit.api.dto.request.ProductRequest;
+import com.starterkit.api.dto.response.ProductResponse;
+import com.starterkit.reactive.entity.Category;
+import com.starterkit.reactive.entity.Product;
+import com.starterkit.reactive.repository.CategoryRepository;
+import com.starterkit.reactive.repository.ProductCatalogRepository;
+import com.starterkit.reactive.repository.ProductRepository;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class ProductService {
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final ProductCatalogRepository productCatalogRepository;
+
+    @Value("${app.products.page-size:500}")
+    private int pageSize;
+
+    @Transactional
+    public Mono<ProductResponse> createProduct(ProductRequest request) {
+        return productRepository.existsBySku(request.getSku())
+                .flatMap(exists -> exists
+                        ? Mono.<Category>error(new ResponseStatusException(HttpStatus.CONFLICT,
+                                "SKU already exists: " + request.getSku()))
+                        : findCategory(request.getCategoryId()))
+                .flatMap(category -> {
+                    Product product = new Product();
+                    apply(request, category, product);
+                    product.setCreatedAt(request.getCreatedAt() != null ? request.getCreatedAt().atStartOfDay() : null);
+                    return productRepository.save(product)
+                            .flatMap(saved -> productCatalogRepository.insertTags(saved.getId(), request.getTags())
+                                    .thenReturn(toResponse(saved, category, request.getTags())));
+                });
+    }
+
+    /**
+     * Streams all products in id order. Pages are read one at a time as the
+     * client consumes the response, so a slow client holds neither a
+     * connection nor the whole catalog in memory.
+     */
+    public Flux<ProductResponse> getAllProducts() {
+        return productCatalogRepository.findPage(0L, pageSize)
+                .expand(page -> page.size() < pageSize
+                        ? Mono.empty()
+                        : productCatalogRepository.findPage(page.get(page.size() - 1).getId(), pageSize))
+                .concatMapIterable(page -> page, 1);
+    }
+
+    @Transactional
+    public Mono<ProductResponse> updateProduct(Long id, ProductRequest request) {
+        return productRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Product not found with id: " + id)))
+                .flatMap(product -> findCategory(request.getCategoryId())
+                        .flatMap(category -> {
+                            apply(request, category, product);
+                            return productRepository.save(product)
+                                    .flatMap(saved -> productCatalogRepository.replaceTags(saved.getId(), request.getTags())
+                                            .thenReturn(toResponse(saved, category, request.getTags())));
+                        }));
+    }
+
+    @Transactional
+    public Mono<Void> deleteProduct(Long id) {
+        return productRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Product not found with id: " + id)))
+                .flatMap(product -> productCatalogRepository.deleteTags(id)
+                        .then(productRepository.delete(product)));
+    }
+
+    private Mono<Category> findCategory(Long categoryId) {
+        return categoryRepository.findById(categoryId)
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Category not found with id: " + categoryId)));
+    }
+
+    private static void apply(ProductRequest request, Category category, Product product) {
+        product.setName(request.getName());
+        product.setPrice(request.getPrice());
+        product.setCategoryId(category.getId());
+        product.setSku(request.getSku());
+        product.setEmailForWarranty(request.getEmailForWarranty());
+        product.setDiscountPercentage(request.getDiscountPercentage());
+        product.setAvailabilityDate(request.getAvailabilityDate());
+    }
+
+    private static ProductResponse toResponse(Product product, Category category, List<String> tags) {
+        return ProductResponse.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .price(product.getPrice())
+                .sku(product.getSku())
+                .tags(tags != null ? Collections.unmodifiableList(new ArrayList<>(tags)) : null)
+                .emailForWarranty(product.getEmailForWarranty())
+                .discountPercentage(product.getDiscountPercentage())
+                .availabilityDate(product.getAvailabilityDate())
+                .category(category.getName())
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+-- Same tables as the ones Hibernate creates for the MVC application, so both can share a database
+CREATE TABLE IF NOT EXISTS categories (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL UNIQUE,
+    description VARCHAR(500)
+);
+
+CREATE TABLE IF NOT EXISTS products (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    price DOUBLE PRECISION NOT NULL,
+    category_id BIGINT NOT NULL REFERENCES categories (id),
+    sku VARCHAR(8) NOT NULL UNIQUE,
+    email_for_warranty VARCHAR(255),
+    discount_percentage INTEGER,
+    availability_date DATE,
+    created_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS product_tags (
+    product_id BIGINT NOT NULL REFERENCES products (id),
+    tag VARCHAR(255)
+);
@@ -0,0 +1,15 @@
+package com.starterkit.reactive;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class ReactiveApiApplicationTests {
+
+	@Test
+	void contextLoads() {
+		// Intentionally empty method: test success is determined by
+		// whether the Spring context is loaded without errors by the framework
+	}
+
+}
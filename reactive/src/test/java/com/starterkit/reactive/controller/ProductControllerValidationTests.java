@@ -0,0 +1,78 @@
+package com.starterkit.reactive.controller;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+class ProductControllerValidationTests {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Test
+	void invalidCreateReturnsFieldErrorsOfTheOnCreateGroup() {
+		webTestClient.post().uri("/api/products")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue("{\"name\":\"Phone\",\"sku\":\"bad\"}")
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectBody()
+			.jsonPath("$.timestamp").exists()
+			.jsonPath("$.status").isEqualTo(400)
+			.jsonPath("$.errors.length()").isEqualTo(3)
+			.jsonPath("$.errors[?(@.field == 'sku')].message").isEqualTo("SKU must be 8 uppercase letters or digits")
+			.jsonPath("$.errors[?(@.field == 'price')].message").isEqualTo("Price cannot be null")
+			.jsonPath("$.errors[?(@.field == 'categoryId')].message").isEqualTo("Category ID is required");
+	}
+
+	@Test
+	void updateDoesNotApplyOnCreateOnlyConstraints() {
+		webTestClient.put().uri("/api/products/999999")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue("{\"name\":\"Phone\",\"sku\":\"AB12CD34\",\"categoryId\":1}")
+			.exchange()
+			.expectStatus().isNotFound();
+	}
+
+	@Test
+	void nullTagIsStored() {
+		Map<?, ?> category = webTestClient.post().uri("/api/categories")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue("{\"name\":\"Null tags\",\"description\":\"Category used by the null tag test\"}")
+			.exchange()
+			.expectStatus().isCreated()
+			.expectBody(Map.class)
+			.returnResult()
+			.getResponseBody();
+
+		webTestClient.post().uri("/api/products")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue("{\"name\":\"Phone\",\"price\":10.5,\"categoryId\":%s,\"sku\":\"NULLTAG1\",\"tags\":[null]}"
+				.formatted(category.get("id")))
+			.exchange()
+			.expectStatus().isCreated()
+			.expectBody()
+			.jsonPath("$.tags.length()").isEqualTo(1)
+			.jsonPath("$.tags[0]").doesNotExist();
+	}
+
+	@Test
+	void nonPositivePathIdReturnsConstraintViolation() {
+		webTestClient.delete().uri("/api/products/-1")
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectBody()
+			.jsonPath("$.timestamp").exists()
+			.jsonPath("$.status").isEqualTo(400)
+			.jsonPath("$.errors.length()").isEqualTo(1)
+			.jsonPath("$.errors[0].field").isEqualTo("deleteProduct.id")
+			.jsonPath("$.errors[0].message").isEqualTo("ID must be positive");
+	}
+}
@@ -7,8 +7,10 @@ package com.starterkit.api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class SpringBootDtoValidationDemoApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,46 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.starterkit.api.monitoring.SqlBudgetFilter;
+import com.starterkit.api.monitoring.SqlBudgetProperties;
+import com.starterkit.api.monitoring.SqlStatisticsDataSource;
+
+@Configuration
+@EnableConfigurationProperties(SqlBudgetProperties.class)
+@ConditionalOnProperty(name = "app.sql-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatisticsConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlStatisticsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlStatisticsDataSource)) {
+                    return new SqlStatisticsDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlBudgetFilter> sqlBudgetFilter(SqlBudgetProperties properties) {
+        FilterRegistrationBean<SqlBudgetFilter> registration = new FilterRegistrationBean<>(new SqlBudgetFilter(properties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -7,9 +7,14 @@ package com.starterkit.api.controller;
 
 import com.starterkit.api.dto.request.CategoryRequest;
 import com.starterkit.api.dto.response.CategoryResponse;
+import com.starterkit.api.dto.response.CategoryStatisticsResponse;
 import com.starterkit.api.service.CategoryService;
+import com.starterkit.api.service.CategoryStatisticsService;
+import com.starterkit.api.service.idempotency.IdempotencyService;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -21,6 +26,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
@@ -31,22 +37,29 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final CategoryStatisticsService categoryStatisticsService;
+    private final IdempotencyService idempotencyService;
 
     @Operation(
         summary = "Create a new category",
-        description = "Creates a category using a CategoryRequest DTO",
+        description = "Creates a category using a CategoryRequest DTO. Retries carrying the same Idempotency-Key get the original response back.",
+        parameters = {
+            @Parameter(name = IdempotencyService.HEADER, description = "Client-generated key that makes retries of this request safe", in = ParameterIn.HEADER, example = "3f1c2a9e-7d4b-4e6a-9b1f-2c8d5e7a0b13")
+        },
         responses = {
             @ApiResponse(responseCode = "201", description = "Category successfully created"),
             @ApiResponse(responseCode = "400", description = "Validation error", content = @Content(schema = @Schema(hidden = true))),
-            @ApiResponse(responseCode = "409", description = "Category already exists", content = @Content(schema = @Schema(hidden = true)))
+            @ApiResponse(responseCode = "409", description = "Category already exists, or a request with the same Idempotency-Key is still running", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key reused with a different request body", content = @Content(schema = @Schema(hidden = true)))
         }
     )
     @PostMapping(consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
     public ResponseEntity<CategoryResponse> createCategory(
-            @Valid @RequestBody CategoryRequest request) {
+            @Valid @RequestBody CategoryRequest request,
+            @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey) {
 
-        CategoryResponse category = categoryService.createCategory(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(category);
+        return idempotencyService.execute("categories", idempotencyKey, request, CategoryResponse.class,
+                HttpStatus.CREATED, () -> categoryService.createCategory(request));
     }
 
     @Operation(
@@ -54,7 +67,29 @@ public class CategoryController {
         description = "Retrieves a list of all categories using CategoryResponse DTO"
     )
     @GetMapping(produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<CategoryResponse>> getAllCategories() {
-        return ResponseEntity.ok(categoryService.getAllCategories());
+    public CompletableFuture<ResponseEntity<List<CategoryResponse>>> getAllCategories() {
+        return categoryService.getAllCategories().thenApply(ResponseEntity::ok);
+    }
+
+    @Operation(
+        summary = "Get category statistics",
+        description = "Retrieves product count, price range, average price and average discount for every category"
+    )
+    @GetMapping(value = "/statistics", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<CategoryStatisticsResponse>> getCategoryStatistics() {
+        return ResponseEntity.ok(categoryStatisticsService.getStatistics());
+    }
+
+    @Operation(
+        summary = "Rebuild category statistics",
+        description = "Recomputes the category statistics from the database",
+        responses = {
+            @ApiResponse(responseCode = "204", description = "Statistics rebuilt")
+        }
+    )
+    @PostMapping("/statistics/rebuild")
+    public ResponseEntity<Void> rebuildCategoryStatistics() {
+        categoryStatisticsService.rebuild();
+        return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,47 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.controller;
+
+import com.starterkit.api.service.ChangeFeedService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
+
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Changes", description = "Incremental change feed for products and categories")
+public class ChangeFeedController {
+
+    private final ChangeFeedService changeFeedService;
+
+    @Operation(
+        summary = "Stream change events",
+        description = "Streams product and category change events as server-sent events. "
+                + "Each event id is its offset; reconnect with Last-Event-ID or 'after' to resume.",
+        parameters = {
+            @Parameter(name = "after", description = "Offset to resume after; omit to receive only new events", in = ParameterIn.QUERY, example = "0"),
+            @Parameter(name = "Last-Event-ID", description = "Offset of the last event received, sent automatically by EventSource clients", in = ParameterIn.HEADER)
+        }
+    )
+    @GetMapping(produces = TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestParam(required = false) @PositiveOrZero(message = "Offset must not be negative") Long after,
+            @RequestHeader(name = "Last-Event-ID", required = false) @PositiveOrZero(message = "Offset must not be negative") Long lastEventId) {
+
+        return changeFeedService.subscribe(lastEventId != null ? lastEventId : after);
+    }
+}
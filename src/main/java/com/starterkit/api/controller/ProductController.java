@@ -8,6 +8,7 @@ package com.starterkit.api.controller;
 import com.starterkit.api.dto.request.ProductRequest;
 import com.starterkit.api.dto.response.ProductResponse;
 import com.starterkit.api.service.ProductService;
+import com.starterkit.api.service.idempotency.IdempotencyService;
 import com.starterkit.api.validation.groups.OnCreate;
 import com.starterkit.api.validation.groups.OnUpdate;
 
@@ -25,6 +26,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
@@ -38,22 +41,29 @@ import org.springframework.validation.annotation.Validated;
 public class ProductController {
 
     private final ProductService productService;
+    private final IdempotencyService idempotencyService;
 
     @Operation(
         summary = "Create a new product",
-        description = "Creates a product using a ProductRequest DTO",
+        description = "Creates a product using a ProductRequest DTO. Retries carrying the same Idempotency-Key get the original response back.",
+        parameters = {
+            @Parameter(name = IdempotencyService.HEADER, description = "Client-generated key that makes retries of this request safe", in = ParameterIn.HEADER, example = "3f1c2a9e-7d4b-4e6a-9b1f-2c8d5e7a0b13")
+        },
         responses = {
             @ApiResponse(responseCode = "201", description = "Product created successfully"),
             @ApiResponse(responseCode = "400", description = "Validation error", content = @Content(schema = @Schema(hidden = true))),
-            @ApiResponse(responseCode = "404", description = "Category not found", content = @Content(schema = @Schema(hidden = true)))
+            @ApiResponse(responseCode = "404", description = "Category not found", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "409", description = "SKU already exists, or a request with the same Idempotency-Key is still running", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key reused with a different request body", content = @Content(schema = @Schema(hidden = true)))
         }
     )
     @PostMapping(consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
     public ResponseEntity<ProductResponse> createProduct(
-            @Validated(OnCreate.class) @RequestBody ProductRequest request) {
+            @Validated(OnCreate.class) @RequestBody ProductRequest request,
+            @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey) {
 
-        ProductResponse response = productService.createProduct(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return idempotencyService.execute("products", idempotencyKey, request, ProductResponse.class,
+                HttpStatus.CREATED, () -> productService.createProduct(request));
     }
 
     @Operation(
@@ -61,8 +71,26 @@ public class ProductController {
         description = "Retrieves a list of all products"
     )
     @GetMapping(produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<ProductResponse>> getAllProducts() {
-        return ResponseEntity.ok(productService.getAllProducts());
+    public CompletableFuture<ResponseEntity<List<ProductResponse>>> getAllProducts() {
+        return productService.getAllProducts().thenApply(ResponseEntity::ok);
+    }
+
+    @Operation(
+        summary = "Get selected fields of all products",
+        description = "Retrieves only the requested fields of every product. Columns, the category join and the tags "
+                + "collection that are not requested are not read from the database.",
+        parameters = {
+            @Parameter(name = "fields", description = "Comma-separated list of: id, name, price, sku, tags, "
+                    + "emailForWarranty, discountPercentage, availabilityDate, category", in = ParameterIn.QUERY, example = "id,name,price,sku")
+        },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Products with the requested fields"),
+            @ApiResponse(responseCode = "400", description = "Unknown or empty field list", content = @Content(schema = @Schema(hidden = true)))
+        }
+    )
+    @GetMapping(params = "fields", produces = APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<List<Map<String, Object>>>> getAllProductFields(@RequestParam String fields) {
+        return productService.getAllProducts(fields).thenApply(ResponseEntity::ok);
     }
 
     @Operation(
@@ -0,0 +1,40 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.dto.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CategoryStatisticsResponse {
+
+    @Schema(description = "Unique identifier of the category", example = "1")
+    Long categoryId;
+
+    @Schema(description = "Category name", example = "Electronics")
+    String categoryName;
+
+    @Schema(description = "Number of products in the category", example = "42")
+    long productCount;
+
+    @Schema(description = "Lowest product price in the category", example = "9.99")
+    Double minPrice;
+
+    @Schema(description = "Highest product price in the category", example = "1999.99")
+    Double maxPrice;
+
+    @Schema(description = "Average product price in the category", example = "349.5")
+    Double averagePrice;
+
+    @Schema(description = "Average discount percentage over products that declare one", example = "12.5")
+    Double averageDiscountPercentage;
+}
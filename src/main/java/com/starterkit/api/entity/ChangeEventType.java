@@ -0,0 +1,21 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ChangeEventType {
+
+    PRODUCT_CREATED("product"),
+    PRODUCT_UPDATED("product"),
+    PRODUCT_DELETED("product"),
+    CATEGORY_CREATED("category");
+
+    private final String aggregateType;
+}
@@ -0,0 +1,51 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.entity;
+
+import java.time.Instant;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Entity
+@Table(name = "idempotency_keys")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class IdempotencyRecord implements Persistable<String> {
+
+    @Id
+    @Column(name = "idempotency_key", length = 300)
+    String idempotencyKey;
+
+    @Column(nullable = false, length = 64)
+    String fingerprint;
+
+    @Column(name = "response_status")
+    Integer responseStatus;
+
+    @Column(name = "response_body", length = 4000)
+    String responseBody;
+
+    @Column(name = "expires_at", nullable = false)
+    Instant expiresAt;
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    /** Records are only ever inserted through save(), so always persist rather than merge. */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -8,23 +8,23 @@ package com.starterkit.api.mapper;
 import com.starterkit.api.dto.request.CategoryRequest;
 import com.starterkit.api.dto.response.CategoryResponse;
 import com.starterkit.api.entity.Category;
-import lombok.experimental.UtilityClass;
 
-@UtilityClass
-public class CategoryMapper {
+import org.mapstruct.Builder;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
 
-    public Category toEntity(CategoryRequest request) {
-        return Category.builder()
-                .name(request.getName())
-                .description(request.getDescription())
-                .build();
-    }
+import java.util.List;
 
-    public CategoryResponse toResponse(Category category) {
-        return CategoryResponse.builder()
-                .id(category.getId())
-                .name(category.getName())
-                .description(category.getDescription()) 
-                .build();
-    }
+@Mapper(componentModel = "spring", builder = @Builder(disableBuilder = true),
+        unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface CategoryMapper {
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "products", ignore = true)
+    Category toEntity(CategoryRequest request);
+
+    CategoryResponse toResponse(Category category);
+
+    List<CategoryResponse> toResponseList(List<Category> categories);
 }
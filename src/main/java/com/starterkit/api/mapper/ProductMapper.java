@@ -9,46 +9,60 @@ import com.starterkit.api.dto.request.ProductRequest;
 import com.starterkit.api.dto.response.ProductResponse;
 import com.starterkit.api.entity.Category;
 import com.starterkit.api.entity.Product;
-import lombok.experimental.UtilityClass;
 
+import org.mapstruct.Builder;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
+import org.mapstruct.ReportingPolicy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
-@UtilityClass
-public class ProductMapper {
-
-    public ProductResponse toResponse(Product product) {
-        if (product == null) return null;
-
-        return ProductResponse.builder()
-                .id(product.getId())
-                .name(product.getName())
-                .price(product.getPrice())
-                .sku(product.getSku())
-                .tags(product.getTags())
-                .emailForWarranty(product.getEmailForWarranty())
-                .discountPercentage(product.getDiscountPercentage())
-                .availabilityDate(product.getAvailabilityDate())
-                .category(product.getCategory() != null ? product.getCategory().getName() : null)
-                .build();
-    }
+/**
+ * Generated at compile time by MapStruct. Builders are disabled so the
+ * implementation fills objects through their no-args constructor and setters.
+ */
+@Mapper(componentModel = "spring", builder = @Builder(disableBuilder = true),
+        unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface ProductMapper {
+
+    @Mapping(target = "category", source = "category.name")
+    @Mapping(target = "tags", source = "tags", qualifiedByName = "immutableCopy")
+    ProductResponse toResponse(Product product);
+
+    List<ProductResponse> toResponseList(List<Product> products);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "name", source = "request.name")
+    @Mapping(target = "category", source = "category")
+    Product toEntity(ProductRequest request, Category category);
+
+    /**
+     * Overwrites the editable fields of {@code product}; tags are replaced in
+     * the existing collection so Hibernate keeps tracking it.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "name", source = "request.name")
+    @Mapping(target = "category", source = "category")
+    void updateEntity(ProductRequest request, Category category, @MappingTarget Product product);
 
-    public List<ProductResponse> toResponseList(List<Product> products) {
-        return products.stream()
-                .map(ProductMapper::toResponse)
-                .toList();
+    default LocalDateTime atStartOfDay(LocalDate date) {
+        return date != null ? date.atStartOfDay() : null;
     }
 
-    public Product toEntity(ProductRequest request, Category category) {
-        return Product.builder()
-                .name(request.getName())
-                .price(request.getPrice())
-                .sku(request.getSku())
-                .emailForWarranty(request.getEmailForWarranty())
-                .discountPercentage(request.getDiscountPercentage())
-                .availabilityDate(request.getAvailabilityDate())
-                .createdAt(request.getCreatedAt().atStartOfDay())
-                .category(category)
-                .tags(request.getTags())
-                .build();
+    /**
+     * Responses may be shared between concurrent readers and outlive the
+     * session, so they get their own read-only copy of the tags. Null elements
+     * are kept: stored tags are not guaranteed to be non-null.
+     */
+    @Named("immutableCopy")
+    default List<String> immutableCopy(List<String> tags) {
+        return tags != null ? Collections.unmodifiableList(new ArrayList<>(tags)) : null;
     }
 }
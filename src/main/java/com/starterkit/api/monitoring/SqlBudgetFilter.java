@@ -0,0 +1,69 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.monitoring;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records the SQL work of each HTTP request and logs requests that exceed the
+ * statement budget configured for their endpoint. Async requests keep the same
+ * statistics across dispatches and are checked once the final dispatch ends.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    public static final String STATISTICS_ATTRIBUTE = SqlBudgetFilter.class.getName() + ".STATISTICS";
+
+    private final SqlBudgetProperties properties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        SqlStatistics resumed = (SqlStatistics) request.getAttribute(STATISTICS_ATTRIBUTE);
+        SqlStatistics statistics;
+        try (SqlStatementRecorder.Recording recording =
+                     resumed != null ? SqlStatementRecorder.record(resumed) : SqlStatementRecorder.start()) {
+            statistics = recording.statistics();
+            request.setAttribute(STATISTICS_ATTRIBUTE, statistics);
+            filterChain.doFilter(request, response);
+        }
+
+        if (!isAsyncStarted(request)) {
+            checkBudget(request, statistics);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    private void checkBudget(HttpServletRequest request, SqlStatistics statistics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+        Integer budget = properties.budgetFor(endpoint);
+
+        if (budget != null && statistics.getStatements() > budget) {
+            log.warn("SQL budget exceeded for {} ({}{}): {} (budget {} statements)", endpoint,
+                    request.getRequestURI(), request.getQueryString() != null ? "?" + request.getQueryString() : "",
+                    statistics, budget);
+        } else {
+            log.debug("SQL for {}: {}", endpoint, statistics);
+        }
+    }
+}
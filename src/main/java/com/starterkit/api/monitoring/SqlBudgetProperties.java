@@ -0,0 +1,38 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Per-request SQL statement budgets. Endpoint keys are the HTTP method and the
+ * matched route pattern, e.g. {@code app.sql-budget.endpoints[GET\ /api/products]=3}
+ * (the space is escaped in .properties files).
+ */
+@Data
+@ConfigurationProperties(prefix = "app.sql-budget")
+public class SqlBudgetProperties {
+
+    /** Whether JDBC statements are counted per request at all. */
+    private boolean enabled = true;
+
+    /** Whether X-Sql-* headers are added to responses with a body. */
+    private boolean exposeHeaders = true;
+
+    /** Budget for endpoints without an entry in {@link #endpoints}; unset means no limit. */
+    private Integer defaultMaxStatements;
+
+    private Map<String, Integer> endpoints = new LinkedHashMap<>();
+
+    public Integer budgetFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultMaxStatements);
+    }
+}
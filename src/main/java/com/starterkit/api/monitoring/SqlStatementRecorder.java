@@ -0,0 +1,70 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.monitoring;
+
+/**
+ * Binds {@link SqlStatistics} to the current thread so the JDBC proxy can
+ * attribute statements to the request (or test) that issued them.
+ * <p>
+ * Recordings nest: statements count towards every recording open on the
+ * thread, so a test can wrap a MockMvc call and see the same numbers as the
+ * request filter.
+ *
+ * <pre>
+ * try (SqlStatementRecorder.Recording recording = SqlStatementRecorder.start()) {
+ *     mockMvc.perform(get("/api/categories"));
+ *     assertThat(recording.statistics().getStatements()).isEqualTo(1);
+ * }
+ * </pre>
+ */
+public final class SqlStatementRecorder {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementRecorder() {
+    }
+
+    /** Starts a new recording on the current thread. */
+    public static Recording start() {
+        return record(new SqlStatistics(CURRENT.get()));
+    }
+
+    /** Resumes an existing recording on the current thread, e.g. on an async dispatch. */
+    public static Recording record(SqlStatistics statistics) {
+        SqlStatistics previous = CURRENT.get();
+        CURRENT.set(statistics);
+        return new Recording(statistics, previous);
+    }
+
+    /** The innermost recording on the current thread, or {@code null} if none is active. */
+    public static SqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static final class Recording implements AutoCloseable {
+
+        private final SqlStatistics statistics;
+        private final SqlStatistics previous;
+
+        private Recording(SqlStatistics statistics, SqlStatistics previous) {
+            this.statistics = statistics;
+            this.previous = previous;
+        }
+
+        public SqlStatistics statistics() {
+            return statistics;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
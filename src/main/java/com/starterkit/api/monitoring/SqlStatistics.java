@@ -0,0 +1,55 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.monitoring;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JDBC work counted while a {@link SqlStatementRecorder} recording is active:
+ * executed statements, rows read from result sets and time spent in the driver.
+ */
+public class SqlStatistics {
+
+    private final SqlStatistics parent;
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder elapsedNanos = new LongAdder();
+
+    SqlStatistics(SqlStatistics parent) {
+        this.parent = parent;
+    }
+
+    void statementExecuted(long nanos) {
+        for (SqlStatistics statistics = this; statistics != null; statistics = statistics.parent) {
+            statistics.statements.increment();
+            statistics.elapsedNanos.add(nanos);
+        }
+    }
+
+    void rowFetched() {
+        for (SqlStatistics statistics = this; statistics != null; statistics = statistics.parent) {
+            statistics.rows.increment();
+        }
+    }
+
+    public long getStatements() {
+        return statements.sum();
+    }
+
+    public long getRowsFetched() {
+        return rows.sum();
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos.sum());
+    }
+
+    @Override
+    public String toString() {
+        return getStatements() + " statements, " + getRowsFetched() + " rows, " + getElapsedMillis() + " ms";
+    }
+}
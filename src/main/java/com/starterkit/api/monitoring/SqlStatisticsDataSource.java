@@ -0,0 +1,124 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.monitoring;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DataSource wrapper that reports executed statements, fetched rows and driver
+ * time to the {@link SqlStatistics} bound to the calling thread. Threads
+ * without an active recording pay only a thread-local lookup per call.
+ */
+public class SqlStatisticsDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private static final Set<String> RESULT_SET_METHODS = Set.of("executeQuery", "getResultSet", "getGeneratedKeys");
+
+    public SqlStatisticsDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, super.getConnection(), SqlStatisticsDataSource::onConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, super.getConnection(username, password), SqlStatisticsDataSource::onConnection);
+    }
+
+    private static Object onConnection(Object target, Method method, Object[] args) throws Throwable {
+        Object result = invoke(target, method, args);
+        return switch (method.getName()) {
+            case "createStatement" -> proxy(Statement.class, (Statement) result, SqlStatisticsDataSource::onStatement);
+            case "prepareStatement" -> proxy(PreparedStatement.class, (PreparedStatement) result, SqlStatisticsDataSource::onStatement);
+            case "prepareCall" -> proxy(CallableStatement.class, (CallableStatement) result, SqlStatisticsDataSource::onStatement);
+            default -> result;
+        };
+    }
+
+    private static Object onStatement(Object target, Method method, Object[] args) throws Throwable {
+        SqlStatistics statistics = SqlStatementRecorder.current();
+        if (statistics == null) {
+            return invoke(target, method, args);
+        }
+
+        Object result;
+        if (EXECUTE_METHODS.contains(method.getName())) {
+            long started = System.nanoTime();
+            try {
+                result = invoke(target, method, args);
+            } finally {
+                statistics.statementExecuted(System.nanoTime() - started);
+            }
+        } else {
+            result = invoke(target, method, args);
+        }
+
+        if (result instanceof ResultSet resultSet && RESULT_SET_METHODS.contains(method.getName())) {
+            return proxy(ResultSet.class, resultSet, (rs, rsMethod, rsArgs) -> {
+                Object value = invoke(rs, rsMethod, rsArgs);
+                if ("next".equals(rsMethod.getName()) && Boolean.TRUE.equals(value)) {
+                    statistics.rowFetched();
+                }
+                return value;
+            });
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Interceptor interceptor) {
+        if (target == null) {
+            return null;
+        }
+        InvocationHandler handler = (proxy, method, args) -> {
+            String name = method.getName();
+            if ("unwrap".equals(name) || "isWrapperFor".equals(name)) {
+                return invoke(target, method, args);
+            }
+            if ("equals".equals(name)) {
+                return proxy == args[0];
+            }
+            if ("hashCode".equals(name)) {
+                return System.identityHashCode(proxy);
+            }
+            return interceptor.intercept(target, method, args);
+        };
+        return (T) Proxy.newProxyInstance(SqlStatisticsDataSource.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Interceptor {
+
+        Object intercept(Object target, Method method, Object[] args) throws Throwable;
+    }
+}
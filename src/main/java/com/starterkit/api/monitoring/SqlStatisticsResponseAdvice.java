@@ -0,0 +1,52 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.monitoring;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Adds the request's SQL statistics as response headers just before the body
+ * is written, when the response is still open for headers.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.sql-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatisticsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String ROWS_HEADER = "X-Sql-Rows";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    private final SqlBudgetProperties properties;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return properties.isExposeHeaders();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(SqlBudgetFilter.STATISTICS_ATTRIBUTE) instanceof SqlStatistics statistics) {
+            response.getHeaders().set(STATEMENTS_HEADER, String.valueOf(statistics.getStatements()));
+            response.getHeaders().set(ROWS_HEADER, String.valueOf(statistics.getRowsFetched()));
+            response.getHeaders().set(TIME_HEADER, String.valueOf(statistics.getElapsedMillis()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.repository;
+
+import com.starterkit.api.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    @Transactional
+    @Modifying
+    @Query("update IdempotencyRecord r set r.responseStatus = :status, r.responseBody = :body where r.idempotencyKey = :key")
+    int complete(@Param("key") String key, @Param("status") int status, @Param("body") String body);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.idempotencyKey = :key")
+    int release(@Param("key") String key);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.idempotencyKey = :key and r.expiresAt < :now")
+    int deleteIfExpired(@Param("key") String key, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
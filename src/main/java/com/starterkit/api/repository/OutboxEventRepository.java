@@ -0,0 +1,30 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.repository;
+
+import com.starterkit.api.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    List<OutboxEvent> findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(Long after, Long upTo, Pageable pageable);
+
+    @Query("select coalesce(max(e.id), 0) from OutboxEvent e")
+    Long findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxEvent e where e.createdAt < :cutoff")
+    int deleteByCreatedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+}
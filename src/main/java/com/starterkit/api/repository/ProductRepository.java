@@ -7,9 +7,31 @@ package com.starterkit.api.repository;
 
 
 import com.starterkit.api.entity.Product;
+import com.starterkit.api.repository.projection.CategoryProductSummary;
+import com.starterkit.api.repository.projection.PriceRange;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+import java.util.List;
+
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
 
     Boolean existsBySku(String sku);
-}
\ No newline at end of file
+
+    @Query("""
+            select p.category.id as categoryId,
+                   count(p) as productCount,
+                   min(p.price) as minPrice,
+                   max(p.price) as maxPrice,
+                   sum(p.price) as priceSum,
+                   sum(p.discountPercentage) as discountSum,
+                   count(p.discountPercentage) as discountCount
+            from Product p
+            group by p.category.id
+            """)
+    List<CategoryProductSummary> summarizeByCategory();
+
+    @Query("select min(p.price) as minPrice, max(p.price) as maxPrice from Product p where p.category.id = :categoryId")
+    PriceRange findPriceRangeByCategoryId(@Param("categoryId") Long categoryId);
+}
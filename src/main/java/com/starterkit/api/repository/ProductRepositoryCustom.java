@@ -0,0 +1,22 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.repository;
+
+import com.starterkit.api.repository.projection.ProductField;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface ProductRepositoryCustom {
+
+    /**
+     * Loads every product selecting only the columns behind {@code fields}.
+     * The category is joined and the tags collection queried only when requested.
+     * Each map holds the requested fields in the requested order.
+     */
+    List<Map<String, Object>> findAllProjected(Set<ProductField> fields);
+}
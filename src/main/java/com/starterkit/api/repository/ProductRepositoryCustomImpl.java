@@ -0,0 +1,89 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.repository;
+
+import com.starterkit.api.entity.Category;
+import com.starterkit.api.entity.Product;
+import com.starterkit.api.repository.projection.ProductField;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    private static final String ID_ALIAS = "id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findAllProjected(Set<ProductField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> product = query.from(Product.class);
+
+        // The id is always selected: it orders the result and keys the tag lookup.
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(product.get(ProductField.ID.getAttribute()).alias(ID_ALIAS));
+        for (ProductField field : fields) {
+            switch (field) {
+                case ID, TAGS -> {
+                    // Already selected, or loaded by a separate query below.
+                }
+                case CATEGORY -> {
+                    Join<Product, Category> category = product.join(field.getAttribute(), JoinType.INNER);
+                    selections.add(category.get("name").alias(field.getJsonName()));
+                }
+                default -> selections.add(product.get(field.getAttribute()).alias(field.getJsonName()));
+            }
+        }
+        query.multiselect(selections).orderBy(cb.asc(product.get(ProductField.ID.getAttribute())));
+
+        List<Tuple> rows = entityManager.createQuery(query).getResultList();
+        Map<Long, List<String>> tags = fields.contains(ProductField.TAGS) ? findAllTags() : Map.of();
+
+        List<Map<String, Object>> result = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Long id = row.get(ID_ALIAS, Long.class);
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (ProductField field : fields) {
+                values.put(field.getJsonName(), switch (field) {
+                    case ID -> id;
+                    case TAGS -> tags.getOrDefault(id, List.of());
+                    default -> row.get(field.getJsonName());
+                });
+            }
+            result.add(values);
+        }
+        return result;
+    }
+
+    private Map<Long, List<String>> findAllTags() {
+        List<Object[]> rows = entityManager
+                .createQuery("select p.id, t from Product p join p.tags t", Object[].class)
+                .getResultList();
+
+        Map<Long, List<String>> tags = new HashMap<>();
+        for (Object[] row : rows) {
+            tags.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.repository.projection;
+
+/**
+ * Per-category aggregate over the products table, used to rebuild the
+ * in-memory category statistics.
+ */
+public interface CategoryProductSummary {
+
+    Long getCategoryId();
+
+    Long getProductCount();
+
+    Double getMinPrice();
+
+    Double getMaxPrice();
+
+    Double getPriceSum();
+
+    Long getDiscountSum();
+
+    Long getDiscountCount();
+}
@@ -0,0 +1,13 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.repository.projection;
+
+public interface PriceRange {
+
+    Double getMinPrice();
+
+    Double getMaxPrice();
+}
@@ -0,0 +1,64 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.repository.projection;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Fields of ProductResponse that can be requested through {@code fields=}.
+ * Each maps to the entity attribute that has to be selected to produce it.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ProductField {
+
+    ID("id", "id"),
+    NAME("name", "name"),
+    PRICE("price", "price"),
+    SKU("sku", "sku"),
+    TAGS("tags", "tags"),
+    EMAIL_FOR_WARRANTY("emailForWarranty", "emailForWarranty"),
+    DISCOUNT_PERCENTAGE("discountPercentage", "discountPercentage"),
+    AVAILABILITY_DATE("availabilityDate", "availabilityDate"),
+    CATEGORY("category", "category");
+
+    private final String jsonName;
+    private final String attribute;
+
+    /**
+     * Parses a comma-separated field list, keeping the requested order and
+     * dropping duplicates.
+     *
+     * @throws IllegalArgumentException if the list is empty or names an unknown field
+     */
+    public static Set<ProductField> parse(String fields) {
+        Set<ProductField> parsed = new LinkedHashSet<>();
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            parsed.add(Arrays.stream(values())
+                    .filter(field -> field.jsonName.equals(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown field '" + trimmed + "'")));
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("At least one field is required");
+        }
+        return parsed;
+    }
+
+    public static String supported() {
+        return Arrays.stream(values()).map(ProductField::getJsonName).collect(Collectors.joining(", "));
+    }
+}
@@ -7,6 +7,7 @@
 package com.starterkit.api.service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -16,6 +17,7 @@ import org.springframework.web.server.ResponseStatusException;
 import com.starterkit.api.dto.request.CategoryRequest;
 import com.starterkit.api.dto.response.CategoryResponse;
 import com.starterkit.api.entity.Category;
+import com.starterkit.api.entity.ChangeEventType;
 import com.starterkit.api.mapper.CategoryMapper;
 import com.starterkit.api.repository.CategoryRepository;
 
@@ -26,6 +28,10 @@ import lombok.RequiredArgsConstructor;
 public class CategoryService {
     
     private final CategoryRepository categoryRepository;
+    private final CategoryStatisticsService categoryStatisticsService;
+    private final OutboxService outboxService;
+    private final ReadCoalescer readCoalescer;
+    private final CategoryMapper categoryMapper;
 
     @Transactional
     public CategoryResponse createCategory(CategoryRequest request) {
@@ -34,21 +40,19 @@ public class CategoryService {
                     "Category already exists: " + request.getName());
         }
 
-        Category category = Category.builder()
-                .name(request.getName())
-                .description(request.getDescription())
-                .build();
+        Category category = categoryMapper.toEntity(request);
 
         category = categoryRepository.save(category);
+        categoryStatisticsService.categoryCreated(category);
 
-        return CategoryMapper.toResponse(category);
+        CategoryResponse response = categoryMapper.toResponse(category);
+        outboxService.record(ChangeEventType.CATEGORY_CREATED, category.getId(), response);
+        return response;
     }
 
 
-    public List<CategoryResponse> getAllCategories() {
-        return categoryRepository.findAll()
-                .stream()
-                .map(CategoryMapper::toResponse)
-                .toList();
+    public CompletableFuture<List<CategoryResponse>> getAllCategories() {
+        return readCoalescer.coalesce("categories.list", "",
+                () -> categoryMapper.toResponseList(categoryRepository.findAll()));
     }
 }
@@ -0,0 +1,248 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.starterkit.api.dto.response.CategoryStatisticsResponse;
+import com.starterkit.api.entity.Category;
+import com.starterkit.api.entity.Product;
+import com.starterkit.api.repository.CategoryRepository;
+import com.starterkit.api.repository.ProductRepository;
+import com.starterkit.api.repository.projection.CategoryProductSummary;
+import com.starterkit.api.repository.projection.PriceRange;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps per-category product statistics in memory so they can be served in
+ * O(categories) without loading products.
+ * <p>
+ * Product writes report their deltas here and the deltas are applied once the
+ * surrounding transaction commits. Count and sums are maintained exactly; when
+ * a product holding the current min or max price leaves a category the range
+ * is marked stale and recomputed with a single aggregate query on the next read.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CategoryStatisticsService {
+
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+
+    private static final int RANGE_REFRESH_ATTEMPTS = 3;
+
+    /** Replaced as a whole by {@link #rebuild()} so readers never see a partially rebuilt map. */
+    private volatile Map<Long, Accumulator> accumulators = new ConcurrentHashMap<>();
+
+    /**
+     * Recomputes every accumulator from the database. Deltas committed while the
+     * rebuild is running may be counted twice or not at all, so this is meant for
+     * startup and for recovering from drift, not for regular use.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Map<Long, Accumulator> rebuilt = new ConcurrentHashMap<>();
+        for (Category category : categoryRepository.findAll()) {
+            rebuilt.put(category.getId(), new Accumulator(category.getName()));
+        }
+        for (CategoryProductSummary summary : productRepository.summarizeByCategory()) {
+            Accumulator accumulator = rebuilt.get(summary.getCategoryId());
+            if (accumulator != null) {
+                accumulator.load(summary);
+            }
+        }
+
+        accumulators = rebuilt;
+        log.debug("Rebuilt category statistics for {} categories", rebuilt.size());
+    }
+
+    public List<CategoryStatisticsResponse> getStatistics() {
+        return accumulators.entrySet()
+                .stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.naturalOrder()))
+                .map(entry -> toResponse(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    public void categoryCreated(Category category) {
+        Long id = category.getId();
+        String name = category.getName();
+        afterCommit(() -> accumulators.computeIfAbsent(id, key -> new Accumulator(name)).rename(name));
+    }
+
+    public void productCreated(Sample created) {
+        afterCommit(() -> accumulatorFor(created.categoryId()).add(created));
+    }
+
+    public void productUpdated(Sample before, Sample after) {
+        if (before.equals(after)) {
+            return;
+        }
+        afterCommit(() -> {
+            accumulatorFor(before.categoryId()).remove(before);
+            accumulatorFor(after.categoryId()).add(after);
+        });
+    }
+
+    public void productDeleted(Sample deleted) {
+        afterCommit(() -> accumulatorFor(deleted.categoryId()).remove(deleted));
+    }
+
+    private Accumulator accumulatorFor(Long categoryId) {
+        return accumulators.computeIfAbsent(categoryId, key -> new Accumulator(null));
+    }
+
+    private CategoryStatisticsResponse toResponse(Long categoryId, Accumulator accumulator) {
+        // The range query runs outside the accumulator lock; a refresh only sticks
+        // if no delta was applied while it ran, otherwise that delta could be lost.
+        for (int attempt = 0; attempt < RANGE_REFRESH_ATTEMPTS; attempt++) {
+            long modification = accumulator.staleRangeModification();
+            if (modification < 0) {
+                break;
+            }
+            PriceRange range = productRepository.findPriceRangeByCategoryId(categoryId);
+            if (accumulator.refreshRange(range.getMinPrice(), range.getMaxPrice(), modification)) {
+                break;
+            }
+        }
+        return accumulator.snapshot(categoryId);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * The fields of a product that contribute to its category statistics.
+     */
+    public record Sample(Long categoryId, Double price, Integer discountPercentage) {
+
+        public static Sample of(Product product) {
+            return new Sample(product.getCategory().getId(), product.getPrice(), product.getDiscountPercentage());
+        }
+    }
+
+    private static final class Accumulator {
+
+        private String name;
+        private long count;
+        private double priceSum;
+        private long discountSum;
+        private long discountCount;
+        private Double minPrice;
+        private Double maxPrice;
+        private boolean rangeStale;
+        private long modifications;
+
+        Accumulator(String name) {
+            this.name = name;
+        }
+
+        synchronized void rename(String name) {
+            this.name = name;
+        }
+
+        synchronized void load(CategoryProductSummary summary) {
+            count = summary.getProductCount();
+            priceSum = summary.getPriceSum() != null ? summary.getPriceSum() : 0;
+            discountSum = summary.getDiscountSum() != null ? summary.getDiscountSum() : 0;
+            discountCount = summary.getDiscountCount();
+            minPrice = summary.getMinPrice();
+            maxPrice = summary.getMaxPrice();
+            rangeStale = false;
+            modifications++;
+        }
+
+        synchronized void add(Sample sample) {
+            modifications++;
+            count++;
+            priceSum += sample.price();
+            if (sample.discountPercentage() != null) {
+                discountSum += sample.discountPercentage();
+                discountCount++;
+            }
+            if (!rangeStale) {
+                minPrice = minPrice == null ? sample.price() : Math.min(minPrice, sample.price());
+                maxPrice = maxPrice == null ? sample.price() : Math.max(maxPrice, sample.price());
+            }
+        }
+
+        synchronized void remove(Sample sample) {
+            modifications++;
+            count--;
+            priceSum -= sample.price();
+            if (sample.discountPercentage() != null) {
+                discountSum -= sample.discountPercentage();
+                discountCount--;
+            }
+            if (count <= 0) {
+                count = 0;
+                priceSum = 0;
+                minPrice = null;
+                maxPrice = null;
+                rangeStale = false;
+            } else if (sample.price().equals(minPrice) || sample.price().equals(maxPrice)) {
+                rangeStale = true;
+            }
+        }
+
+        /**
+         * @return the modification count to pass to {@link #refreshRange}, or
+         *         {@code -1} if the range is not stale
+         */
+        synchronized long staleRangeModification() {
+            return rangeStale ? modifications : -1;
+        }
+
+        /**
+         * Applies a range queried after {@link #staleRangeModification()}
+         * returned {@code modification}. Rejected, leaving the range stale, if a
+         * delta was applied in the meantime.
+         */
+        synchronized boolean refreshRange(Double min, Double max, long modification) {
+            if (modifications != modification) {
+                return false;
+            }
+            minPrice = min;
+            maxPrice = max;
+            rangeStale = false;
+            return true;
+        }
+
+        synchronized CategoryStatisticsResponse snapshot(Long categoryId) {
+            return CategoryStatisticsResponse.builder()
+                    .categoryId(categoryId)
+                    .categoryName(name)
+                    .productCount(count)
+                    .minPrice(minPrice)
+                    .maxPrice(maxPrice)
+                    .averagePrice(count > 0 ? priceSum / count : null)
+                    .averageDiscountPercentage(discountCount > 0 ? (double) discountSum / discountCount : null)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.starterkit.api.entity.OutboxEvent;
+import com.starterkit.api.repository.OutboxEventRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Relays outbox events to server-sent event subscribers.
+ * <p>
+ * A single scheduled relay reads the outbox in batches and pushes each batch to
+ * every subscriber, so no thread is held per connection. Subscribers that
+ * resume from an older offset are caught up from the outbox one batch per
+ * tick, sharing the read with any other subscriber at the same offset.
+ * <p>
+ * Reads stop at {@link OutboxService#committedOffset()}, so an event whose
+ * transaction commits after one with a higher id is still delivered in order.
+ * <p>
+ * The relay only queues events: each subscriber has a bounded buffer that a
+ * writer thread drains into its connection, so a slow client cannot hold up
+ * the others. A subscriber whose buffer overflows is disconnected and can
+ * resume from its last event id.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChangeFeedService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxService outboxService;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    @Value("${app.change-feed.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.change-feed.emitter-timeout:PT30M}")
+    private Duration emitterTimeout;
+
+    @Value("${app.change-feed.retention:P7D}")
+    private Duration retention;
+
+    @Value("${app.change-feed.subscriber-buffer:1000}")
+    private int subscriberBuffer;
+
+    private final ExecutorService writers = Executors.newCachedThreadPool(new WriterThreadFactory());
+
+    /** Offset of the last event pushed to caught-up subscribers, or -1 when idle. */
+    private volatile long head = -1;
+
+    /**
+     * Opens a stream that delivers every event with an offset greater than
+     * {@code after}, or only new events when {@code after} is null.
+     */
+    public SseEmitter subscribe(Long after) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        register(emitter, after);
+        return emitter;
+    }
+
+    void register(SseEmitter emitter, Long after) {
+        long cursor = after != null ? after : outboxService.committedOffset();
+        Subscriber subscriber = new Subscriber(emitter, cursor, subscriberBuffer);
+
+        emitter.onCompletion(() -> close(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(error -> close(subscriber));
+        subscribers.add(subscriber);
+
+        log.debug("Change feed subscriber registered from offset {}", cursor);
+    }
+
+    @Scheduled(fixedDelayString = "${app.change-feed.poll-interval:PT0.5S}")
+    public void relay() {
+        if (subscribers.isEmpty()) {
+            head = -1;
+            return;
+        }
+        long committed = outboxService.committedOffset();
+        if (head < 0) {
+            head = committed;
+        }
+
+        catchUpLaggingSubscribers();
+
+        List<OutboxEvent> batch = outboxEventRepository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(
+                head, committed, PageRequest.ofSize(batchSize));
+        if (batch.isEmpty()) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.cursor >= head) {
+                deliver(subscriber, batch);
+            }
+        }
+        head = batch.get(batch.size() - 1).getId();
+    }
+
+    @Scheduled(fixedDelayString = "${app.change-feed.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, SseEmitter.event().comment("keep-alive"));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.change-feed.purge-interval:PT1H}")
+    public void purgeExpiredEvents() {
+        int purged = outboxEventRepository.deleteByCreatedAtBefore(LocalDateTime.now().minus(retention));
+        if (purged > 0) {
+            log.debug("Purged {} outbox events older than {}", purged, retention);
+        }
+    }
+
+    private void catchUpLaggingSubscribers() {
+        Map<Long, List<Subscriber>> laggingByCursor = new TreeMap<>();
+        for (Subscriber subscriber : subscribers) {
+            // Catch up one batch at a time, once the previous one has been written
+            if (subscriber.cursor < head && subscriber.buffer.isEmpty()) {
+                laggingByCursor.computeIfAbsent(subscriber.cursor, cursor -> new ArrayList<>()).add(subscriber);
+            }
+        }
+
+        laggingByCursor.forEach((cursor, group) -> {
+            List<OutboxEvent> backlog = outboxEventRepository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(
+                    cursor, head, PageRequest.ofSize(batchSize));
+            if (backlog.isEmpty()) {
+                // Events up to head were purged or never existed; skip straight to the live tail.
+                group.forEach(subscriber -> subscriber.cursor = head);
+                return;
+            }
+            group.forEach(subscriber -> deliver(subscriber, backlog));
+        });
+    }
+
+    private void deliver(Subscriber subscriber, List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            if (event.getId() <= subscriber.cursor) {
+                continue;
+            }
+            boolean queued = enqueue(subscriber, SseEmitter.event()
+                    .id(String.valueOf(event.getId()))
+                    .name(event.getEventType().name())
+                    .data(event.getPayload(), MediaType.APPLICATION_JSON));
+            if (!queued) {
+                return;
+            }
+            subscriber.cursor = event.getId();
+        }
+    }
+
+    /** Queues an event without blocking and makes sure a writer is draining the buffer. */
+    private boolean enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.closed.get()) {
+            return false;
+        }
+        if (!subscriber.buffer.offer(event)) {
+            drop(subscriber, new IllegalStateException("Subscriber buffer of " + subscriberBuffer + " events is full"));
+            return false;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            writers.execute(() -> drain(subscriber));
+        }
+        return true;
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while (!subscriber.closed.get() && (event = subscriber.buffer.poll()) != null) {
+                try {
+                    subscriber.emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    drop(subscriber, e);
+                }
+            }
+            subscriber.draining.set(false);
+            // An event queued after the last poll but before the flag was cleared found a writer still running
+        } while (!subscriber.closed.get() && !subscriber.buffer.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    /**
+     * Disconnects a subscriber. The emitter is completed on a writer thread:
+     * completion waits for a send that may be stuck on the same connection.
+     */
+    private void drop(Subscriber subscriber, Exception cause) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscribers.remove(subscriber);
+        subscriber.buffer.clear();
+        writers.execute(() -> subscriber.emitter.completeWithError(cause));
+        log.debug("Change feed subscriber dropped at offset {}: {}", subscriber.cursor, cause.getMessage());
+    }
+
+    private void close(Subscriber subscriber) {
+        subscriber.closed.set(true);
+        subscribers.remove(subscriber);
+        subscriber.buffer.clear();
+    }
+
+    @PreDestroy
+    void shutdownWriters() {
+        writers.shutdownNow();
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile long cursor;
+
+        Subscriber(SseEmitter emitter, long cursor, int bufferSize) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+
+    private static final class WriterThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "change-feed-writer-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.service;
+
+import java.time.LocalDateTime;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starterkit.api.entity.ChangeEventType;
+import com.starterkit.api.entity.OutboxEvent;
+import com.starterkit.api.repository.OutboxEventRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes change events to the outbox table. Must be called from inside the
+ * transaction that performs the change, so the event is committed or rolled
+ * back together with it.
+ * <p>
+ * Event ids are assigned at insert time, not at commit, so a higher id can
+ * become visible before a lower one. {@link #committedOffset()} tells readers
+ * how far the outbox can be read without skipping an event that is still
+ * being committed. It tracks the transactions of this instance only.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /** Held shared while an id is allocated and registered, exclusively to compute the committed offset. */
+    private final ReadWriteLock allocation = new ReentrantReadWriteLock();
+    private final NavigableSet<Long> uncommitted = new ConcurrentSkipListSet<>();
+    private final AtomicLong lastAllocated = new AtomicLong(-1);
+
+    /**
+     * @return the offset of the recorded event
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long record(ChangeEventType eventType, Long aggregateId, Object payload) {
+        OutboxEvent event = OutboxEvent.builder()
+                .aggregateType(eventType.getAggregateType())
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(toJson(payload))
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        long id;
+        allocation.readLock().lock();
+        try {
+            // IDENTITY ids are generated by the insert, which save() executes right away
+            id = outboxEventRepository.save(event).getId();
+            uncommitted.add(id);
+            lastAllocated.accumulateAndGet(id, Math::max);
+        } finally {
+            allocation.readLock().unlock();
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                uncommitted.remove(id);
+            }
+        });
+        return id;
+    }
+
+    /**
+     * Highest offset below which every event is either committed or rolled
+     * back. Events up to this offset can be read and will not be joined later
+     * by an event with a lower id.
+     */
+    public long committedOffset() {
+        allocation.writeLock().lock();
+        try {
+            if (!uncommitted.isEmpty()) {
+                return uncommitted.first() - 1;
+            }
+            if (lastAllocated.get() < 0) {
+                lastAllocated.accumulateAndGet(outboxEventRepository.findMaxId(), Math::max);
+            }
+            return lastAllocated.get();
+        } finally {
+            allocation.writeLock().unlock();
+        }
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize outbox payload", e);
+        }
+    }
+}
@@ -8,10 +8,12 @@ package com.starterkit.api.service;
 import com.starterkit.api.dto.request.ProductRequest;
 import com.starterkit.api.dto.response.ProductResponse;
 import com.starterkit.api.entity.Category;
+import com.starterkit.api.entity.ChangeEventType;
 import com.starterkit.api.entity.Product;
 import com.starterkit.api.mapper.ProductMapper;
 import com.starterkit.api.repository.CategoryRepository;
 import com.starterkit.api.repository.ProductRepository;
+import com.starterkit.api.repository.projection.ProductField;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.http.HttpStatus;
@@ -20,6 +22,10 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +33,10 @@ public class ProductService {
 
     private final CategoryRepository categoryRepository;
     private final ProductRepository productRepository;
+    private final CategoryStatisticsService categoryStatisticsService;
+    private final OutboxService outboxService;
+    private final ReadCoalescer readCoalescer;
+    private final ProductMapper productMapper;
 
     @Transactional
     public ProductResponse createProduct(ProductRequest request) {
@@ -39,14 +49,33 @@ public class ProductService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                         "Category not found with id: " + request.getCategoryId()));
 
-        Product product = ProductMapper.toEntity(request, category);
+        Product product = productMapper.toEntity(request, category);
 
         Product saved = productRepository.save(product);
-        return ProductMapper.toResponse(saved);
+        categoryStatisticsService.productCreated(CategoryStatisticsService.Sample.of(saved));
+
+        ProductResponse response = productMapper.toResponse(saved);
+        outboxService.record(ChangeEventType.PRODUCT_CREATED, saved.getId(), response);
+        return response;
+    }
+
+    public CompletableFuture<List<ProductResponse>> getAllProducts() {
+        return readCoalescer.coalesce("products.list", "",
+                () -> productMapper.toResponseList(productRepository.findAll()));
     }
 
-    public List<ProductResponse> getAllProducts() {
-        return ProductMapper.toResponseList(productRepository.findAll());
+    @Transactional(readOnly = true)
+    public CompletableFuture<List<Map<String, Object>>> getAllProducts(String fields) {
+        Set<ProductField> requested;
+        try {
+            requested = ProductField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    e.getMessage() + ". Supported fields: " + ProductField.supported());
+        }
+        String normalized = requested.stream().map(ProductField::getJsonName).collect(Collectors.joining(","));
+        return readCoalescer.coalesce("products.fields", normalized,
+                () -> productRepository.findAllProjected(requested));
     }
 
     @Transactional
@@ -59,17 +88,16 @@ public class ProductService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                         "Category not found with id: " + request.getCategoryId()));
 
-        existingProduct.setName(request.getName());
-        existingProduct.setPrice(request.getPrice());
-        existingProduct.setCategory(category);
-        existingProduct.setSku(request.getSku());
-        existingProduct.setTags(request.getTags());
-        existingProduct.setEmailForWarranty(request.getEmailForWarranty());
-        existingProduct.setDiscountPercentage(request.getDiscountPercentage());
-        existingProduct.setAvailabilityDate(request.getAvailabilityDate());
+        CategoryStatisticsService.Sample before = CategoryStatisticsService.Sample.of(existingProduct);
+
+        productMapper.updateEntity(request, category, existingProduct);
 
         Product saved = productRepository.save(existingProduct);
-        return ProductMapper.toResponse(saved);
+        categoryStatisticsService.productUpdated(before, CategoryStatisticsService.Sample.of(saved));
+
+        ProductResponse response = productMapper.toResponse(saved);
+        outboxService.record(ChangeEventType.PRODUCT_UPDATED, saved.getId(), response);
+        return response;
     }
 
     @Transactional
@@ -79,5 +107,7 @@ public class ProductService {
                         "Product not found with id: " + id));
 
         productRepository.delete(product);
+        categoryStatisticsService.productDeleted(CategoryStatisticsService.Sample.of(product));
+        outboxService.record(ChangeEventType.PRODUCT_DELETED, id, Map.of("id", id));
     }
 }
@@ -0,0 +1,75 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Single-flight execution of read operations.
+ * <p>
+ * The first caller for a key runs the loader on its own thread; callers
+ * arriving with the same key while it runs get the same future back instead of
+ * querying again, so they release their request thread until the shared
+ * result is ready. Nothing is cached: once the call completes the next caller
+ * starts a fresh one. Results are shared between callers and must not be
+ * mutated.
+ * <p>
+ * Publishes {@code app.reads} counters tagged with the operation and whether
+ * the call was {@code executed} or {@code coalesced}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadCoalescer {
+
+    private static final String METRIC = "app.reads";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param operation name of the read, e.g. {@code products.list}; used as metric tag
+     * @param parameters query parameters after parsing (trimmed, deduplicated, in request order);
+     *                   calls with equal values share one execution
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> coalesce(String operation, String parameters, Supplier<T> loader) {
+        String key = operation + "?" + parameters;
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            counter(operation, "coalesced").increment();
+            return (CompletableFuture<T>) running;
+        }
+
+        counter(operation, "executed").increment();
+        try {
+            call.complete(loader.get());
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+        } finally {
+            inFlight.remove(key, call);
+        }
+        return (CompletableFuture<T>) call;
+    }
+
+    private Counter counter(String operation, String outcome) {
+        return Counter.builder(METRIC)
+                .description("Read operations, by whether they ran a query or joined one already in flight")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
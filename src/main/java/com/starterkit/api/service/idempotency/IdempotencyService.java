@@ -0,0 +1,225 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.service.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Executes create operations at most once per {@code Idempotency-Key}.
+ * <p>
+ * The first request with a key runs the operation and stores its response;
+ * later requests with the same key and body get the stored response back
+ * without reaching the service layer. Duplicates arriving while the first
+ * execution is still running wait for it instead of running again.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long REMOTE_POLL_INTERVAL_MS = 50;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    /** Executions in progress on this node, so local duplicates never reach the store. */
+    private final Map<String, CompletableFuture<IdempotencyStore.Entry>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${app.idempotency.ttl:PT24H}")
+    private Duration ttl;
+
+    @Value("${app.idempotency.wait-timeout:PT10S}")
+    private Duration waitTimeout;
+
+    public <T> ResponseEntity<T> execute(String scope, String idempotencyKey, Object request,
+                                         Class<T> responseType, HttpStatus successStatus, Supplier<T> action) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(successStatus).body(action.get());
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String key = scope + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+
+        CompletableFuture<IdempotencyStore.Entry> execution = new CompletableFuture<>();
+        CompletableFuture<IdempotencyStore.Entry> running = inFlight.putIfAbsent(key, execution);
+        if (running != null) {
+            log.debug("Waiting for in-flight execution of idempotency key {}", key);
+            return replay(await(running), fingerprint, responseType);
+        }
+
+        try {
+            Optional<IdempotencyStore.Entry> existing = idempotencyStore.reserve(key, fingerprint, Instant.now().plus(ttl));
+            if (existing.isPresent()) {
+                IdempotencyStore.Entry entry = existing.get().isCompleted() ? existing.get() : pollUntilCompleted(key);
+                execution.complete(entry);
+                return replay(entry, fingerprint, responseType);
+            }
+
+            T body = runOrRelease(key, action);
+            String json = store(key, successStatus, body);
+            if (json != null) {
+                execution.complete(new IdempotencyStore.Entry(fingerprint, successStatus.value(), json, null));
+            } else {
+                execution.completeExceptionally(stillProcessing());
+            }
+            return ResponseEntity.status(successStatus).body(body);
+        } catch (RuntimeException e) {
+            execution.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, execution);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval:PT1M}")
+    public void purgeExpired() {
+        idempotencyStore.purgeExpired(Instant.now());
+    }
+
+    private <T> T runOrRelease(String key, Supplier<T> action) {
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            releaseQuietly(key);
+            throw e;
+        }
+    }
+
+    /**
+     * Stores the response of a committed execution. If that fails the key is
+     * released rather than left reserved without a response until it expires,
+     * and the response is still returned since the operation did succeed.
+     *
+     * @return the stored JSON, or null if it could not be stored
+     */
+    private String store(String key, HttpStatus status, Object body) {
+        try {
+            String json = toJson(body);
+            idempotencyStore.complete(key, status.value(), json);
+            return json;
+        } catch (RuntimeException e) {
+            log.warn("Could not store the response for idempotency key {}, releasing it", key, e);
+            releaseQuietly(key);
+            return null;
+        }
+    }
+
+    private void releaseQuietly(String key) {
+        try {
+            idempotencyStore.release(key);
+        } catch (RuntimeException e) {
+            log.warn("Could not release idempotency key {}, it stays reserved until it expires", key, e);
+        }
+    }
+
+    private IdempotencyStore.Entry await(CompletableFuture<IdempotencyStore.Entry> running) {
+        try {
+            return running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw stillProcessing();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw stillProcessing();
+        }
+    }
+
+    /** Waits for an execution that another node reserved in the shared store. */
+    private IdempotencyStore.Entry pollUntilCompleted(String key) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            Optional<IdempotencyStore.Entry> entry = idempotencyStore.find(key);
+            if (entry.isEmpty()) {
+                // The other execution failed and released the key.
+                throw stillProcessing();
+            }
+            if (entry.get().isCompleted()) {
+                return entry.get();
+            }
+            try {
+                Thread.sleep(REMOTE_POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw stillProcessing();
+    }
+
+    private <T> ResponseEntity<T> replay(IdempotencyStore.Entry entry, String fingerprint, Class<T> responseType) {
+        if (!entry.fingerprint().equals(fingerprint)) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                    HEADER + " was already used with a different request body");
+        }
+        try {
+            return ResponseEntity.status(entry.status())
+                    .header(REPLAYED_HEADER, "true")
+                    .body(objectMapper.readValue(entry.body(), responseType));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not deserialize stored idempotent response", e);
+        }
+    }
+
+    private ResponseStatusException stillProcessing() {
+        return new ResponseStatusException(HttpStatus.CONFLICT,
+                "A request with this " + HEADER + " is still being processed, retry later");
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(toJson(request).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize idempotent payload", e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.service.idempotency;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Persists idempotency keys together with the fingerprint of the request that
+ * first used them and, once available, the serialized response.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Claims {@code key} for a new execution.
+     *
+     * @return empty if the key was claimed by this call, otherwise the live entry already holding it
+     */
+    Optional<Entry> reserve(String key, String fingerprint, Instant expiresAt);
+
+    Optional<Entry> find(String key);
+
+    void complete(String key, int status, String body);
+
+    /** Drops a claimed key whose execution failed, so the client can retry it. */
+    void release(String key);
+
+    void purgeExpired(Instant now);
+
+    record Entry(String fingerprint, Integer status, String body, Instant expiresAt) {
+
+        public boolean isCompleted() {
+            return status != null;
+        }
+    }
+}
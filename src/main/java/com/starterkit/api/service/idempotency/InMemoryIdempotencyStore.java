@@ -0,0 +1,78 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.service.idempotency;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-node store backed by a bounded map. Entries share one TTL, so
+ * insertion order is also expiry order and the eldest entry is evicted first
+ * once the capacity is reached.
+ */
+@Component
+@ConditionalOnProperty(name = "app.idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Map<String, Entry> entries;
+
+    public InMemoryIdempotencyStore(@Value("${app.idempotency.max-entries:10000}") int maxEntries) {
+        this.entries = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Optional<Entry> reserve(String key, String fingerprint, Instant expiresAt) {
+        Optional<Entry> existing = find(key);
+        if (existing.isPresent()) {
+            return existing;
+        }
+        entries.put(key, new Entry(fingerprint, null, null, expiresAt));
+        return Optional.empty();
+    }
+
+    @Override
+    public synchronized Optional<Entry> find(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAt().isBefore(Instant.now())) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(entry);
+    }
+
+    @Override
+    public synchronized void complete(String key, int status, String body) {
+        entries.computeIfPresent(key, (k, entry) -> new Entry(entry.fingerprint(), status, body, entry.expiresAt()));
+    }
+
+    @Override
+    public synchronized void release(String key) {
+        entries.remove(key);
+    }
+
+    @Override
+    public synchronized void purgeExpired(Instant now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext() && iterator.next().expiresAt().isBefore(now)) {
+            iterator.remove();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.service.idempotency;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.starterkit.api.entity.IdempotencyRecord;
+import com.starterkit.api.repository.IdempotencyRecordRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Store shared by every node through the idempotency_keys table. The primary
+ * key on the idempotency key makes the reservation atomic across nodes.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.idempotency.store", havingValue = "jdbc")
+public class JpaIdempotencyStore implements IdempotencyStore {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Override
+    public Optional<Entry> reserve(String key, String fingerprint, Instant expiresAt) {
+        IdempotencyRecord pending = IdempotencyRecord.builder()
+                .idempotencyKey(key)
+                .fingerprint(fingerprint)
+                .expiresAt(expiresAt)
+                .build();
+        try {
+            idempotencyRecordRepository.saveAndFlush(pending);
+            return Optional.empty();
+        } catch (DataIntegrityViolationException alreadyReserved) {
+            Optional<Entry> existing = find(key);
+            if (existing.isPresent()) {
+                return existing;
+            }
+            // The conflicting row had expired; take its place, unless another node already has.
+            if (idempotencyRecordRepository.deleteIfExpired(key, Instant.now()) == 0) {
+                return takenOver(key, fingerprint, expiresAt);
+            }
+            try {
+                idempotencyRecordRepository.saveAndFlush(pending);
+                return Optional.empty();
+            } catch (DataIntegrityViolationException raced) {
+                return takenOver(key, fingerprint, expiresAt);
+            }
+        }
+    }
+
+    /** Another node took the expired key first; wait for its execution like any other holder. */
+    private Optional<Entry> takenOver(String key, String fingerprint, Instant expiresAt) {
+        return Optional.of(find(key).orElseGet(() -> new Entry(fingerprint, null, null, expiresAt)));
+    }
+
+    @Override
+    public Optional<Entry> find(String key) {
+        return idempotencyRecordRepository.findById(key)
+                .filter(record -> record.getExpiresAt().isAfter(Instant.now()))
+                .map(record -> new Entry(record.getFingerprint(), record.getResponseStatus(),
+                        record.getResponseBody(), record.getExpiresAt()));
+    }
+
+    @Override
+    public void complete(String key, int status, String body) {
+        idempotencyRecordRepository.complete(key, status, body);
+    }
+
+    @Override
+    public void release(String key) {
+        idempotencyRecordRepository.release(key);
+    }
+
+    @Override
+    public void purgeExpired(Instant now) {
+        idempotencyRecordRepository.deleteExpired(now);
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.snapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32;
+
+/**
+ * Binary layout of a catalog snapshot.
+ * <p>
+ * Version 2: a header ({@code CATS} magic, version, creation time, outbox
+ * offset), then the categories, products and product_tags sections, and a
+ * CRC32 trailer over everything before it. Version 1 files have no outbox
+ * offset and are still read. Each record in a section is preceded by a
+ * {@code 1} byte and a section ends with a {@code 0} byte, so the file can be
+ * written in one streaming pass. Strings are a length-prefixed UTF-8 payload,
+ * with length {@code -1} for null.
+ * <p>
+ * Rows are exchanged as {@code Object[]} in the column order of the insert
+ * statements used to restore them.
+ */
+final class CatalogSnapshotFormat {
+
+    static final int MAGIC = 0x43415453;
+    static final short VERSION = 2;
+    private static final short VERSION_WITHOUT_OFFSET = 1;
+
+    private static final byte RECORD = 1;
+    private static final byte END_OF_SECTION = 0;
+    private static final int TRAILER_BYTES = Long.BYTES;
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    private CatalogSnapshotFormat() {
+    }
+
+    interface RowSink {
+
+        void category(Object[] row);
+
+        void product(Object[] row);
+
+        void tag(Object[] row);
+    }
+
+    /**
+     * Streams a snapshot into a temporary file and atomically moves it over
+     * {@code target} on {@link #commit()}. Closing without committing discards it.
+     */
+    static final class Writer implements Closeable {
+
+        private final Path target;
+        private final Path temporary;
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        private final CRC32 crc = new CRC32();
+        private boolean committed;
+
+        Writer(Path target, long outboxOffset) throws IOException {
+            this.target = target;
+            Path directory = target.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            this.temporary = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+            this.channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+
+            ensure(Integer.BYTES + Short.BYTES + 2 * Long.BYTES);
+            buffer.putInt(MAGIC).putShort(VERSION).putLong(System.currentTimeMillis()).putLong(outboxOffset);
+        }
+
+        void category(long id, String name, String description) throws IOException {
+            record();
+            putLong(id);
+            putString(name);
+            putString(description);
+        }
+
+        void product(long id, String name, double price, long categoryId, String sku, String emailForWarranty,
+                     Integer discountPercentage, Date availabilityDate, Timestamp createdAt) throws IOException {
+            record();
+            putLong(id);
+            putString(name);
+            ensure(Double.BYTES + Long.BYTES);
+            buffer.putDouble(price).putLong(categoryId);
+            putString(sku);
+            putString(emailForWarranty);
+            putNullableInt(discountPercentage);
+            putNullableLong(availabilityDate != null ? availabilityDate.toLocalDate().toEpochDay() : null);
+            putNullableLong(createdAt != null ? createdAt.toLocalDateTime().toEpochSecond(ZoneOffset.UTC) : null);
+            if (createdAt != null) {
+                ensure(Integer.BYTES);
+                buffer.putInt(createdAt.getNanos());
+            }
+        }
+
+        void tag(long productId, String tag) throws IOException {
+            record();
+            putLong(productId);
+            putString(tag);
+        }
+
+        void endSection() throws IOException {
+            ensure(1);
+            buffer.put(END_OF_SECTION);
+        }
+
+        void commit() throws IOException {
+            flush();
+            ByteBuffer trailer = ByteBuffer.allocate(TRAILER_BYTES).putLong(crc.getValue()).flip();
+            while (trailer.hasRemaining()) {
+                channel.write(trailer);
+            }
+            channel.force(true);
+            channel.close();
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            committed = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                channel.close();
+                Files.deleteIfExists(temporary);
+            }
+        }
+
+        private void record() throws IOException {
+            ensure(1);
+            buffer.put(RECORD);
+        }
+
+        private void putLong(long value) throws IOException {
+            ensure(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        private void putNullableInt(Integer value) throws IOException {
+            ensure(1 + Integer.BYTES);
+            buffer.put((byte) (value != null ? 1 : 0));
+            if (value != null) {
+                buffer.putInt(value);
+            }
+        }
+
+        private void putNullableLong(Long value) throws IOException {
+            ensure(1 + Long.BYTES);
+            buffer.put((byte) (value != null ? 1 : 0));
+            if (value != null) {
+                buffer.putLong(value);
+            }
+        }
+
+        private void putString(String value) throws IOException {
+            if (value == null) {
+                ensure(Integer.BYTES);
+                buffer.putInt(-1);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            ensure(Integer.BYTES + bytes.length);
+            buffer.putInt(bytes.length).put(bytes);
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            crc.update(buffer.duplicate());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Memory-maps {@code file}, verifies its checksum and version, and replays
+     * every row into {@code sink}.
+     *
+     * @return the outbox offset the snapshot was taken at, 0 for version 1 files
+     * @throws CorruptSnapshotException if the file is truncated, corrupt or of an unknown version
+     */
+    static long read(Path file, RowSink sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < Integer.BYTES + Short.BYTES + Long.BYTES + TRAILER_BYTES || size > Integer.MAX_VALUE) {
+                throw new CorruptSnapshotException("Unexpected snapshot size " + size);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int payloadSize = (int) size - TRAILER_BYTES;
+
+            CRC32 crc = new CRC32();
+            crc.update(mapped.slice(0, payloadSize));
+            if (crc.getValue() != mapped.getLong(payloadSize)) {
+                throw new CorruptSnapshotException("Checksum mismatch");
+            }
+
+            ByteBuffer payload = mapped.slice(0, payloadSize);
+            if (payload.getInt() != MAGIC) {
+                throw new CorruptSnapshotException("Not a catalog snapshot");
+            }
+            short version = payload.getShort();
+            if (version != VERSION && version != VERSION_WITHOUT_OFFSET) {
+                throw new CorruptSnapshotException("Unsupported snapshot version " + version);
+            }
+            long outboxOffset = 0;
+
+            try {
+                payload.getLong();
+                if (version == VERSION) {
+                    outboxOffset = payload.getLong();
+                }
+                while (payload.get() == RECORD) {
+                    sink.category(new Object[] {payload.getLong(), getString(payload), getString(payload)});
+                }
+                while (payload.get() == RECORD) {
+                    long id = payload.getLong();
+                    String name = getString(payload);
+                    double price = payload.getDouble();
+                    long categoryId = payload.getLong();
+                    String sku = getString(payload);
+                    String email = getString(payload);
+                    Integer discount = payload.get() == 1 ? payload.getInt() : null;
+                    Date availabilityDate = payload.get() == 1
+                            ? Date.valueOf(LocalDate.ofEpochDay(payload.getLong())) : null;
+                    Timestamp createdAt = null;
+                    if (payload.get() == 1) {
+                        long epochSecond = payload.getLong();
+                        createdAt = Timestamp.valueOf(LocalDateTime.ofEpochSecond(epochSecond, payload.getInt(), ZoneOffset.UTC));
+                    }
+                    sink.product(new Object[] {id, name, price, categoryId, sku, email, discount, availabilityDate, createdAt});
+                }
+                while (payload.get() == RECORD) {
+                    sink.tag(new Object[] {payload.getLong(), getString(payload)});
+                }
+            } catch (BufferUnderflowException e) {
+                throw new CorruptSnapshotException("Snapshot ends in the middle of a record");
+            }
+            if (payload.hasRemaining()) {
+                throw new CorruptSnapshotException("Unexpected data after the last section");
+            }
+            return outboxOffset;
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static class CorruptSnapshotException extends IOException {
+
+        CorruptSnapshotException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.snapshot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.starterkit.api.repository.OutboxEventRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Saves the catalog (categories, products, product_tags) to a binary snapshot
+ * periodically and on shutdown, and restores it at startup so an in-memory
+ * database does not come up empty.
+ * <p>
+ * The restore runs as an {@link ApplicationRunner}, i.e. before the
+ * application reports ready, and only when the catalog tables are empty. A
+ * missing, corrupt or unreadable snapshot is logged and the application starts
+ * with an empty catalog. Snapshots are only rewritten after the catalog has
+ * changed, which the outbox offset tells cheaply.
+ * <p>
+ * The offset is stored in the snapshot and the outbox ids continue after it
+ * on restore, so change feed clients resuming from an offset they received
+ * before the restart do not miss new events.
+ */
+@Slf4j
+@Service
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.snapshot.enabled", havingValue = "true")
+public class CatalogSnapshotService implements ApplicationRunner {
+
+    private static final String INSERT_CATEGORY =
+            "INSERT INTO categories (id, name, description) VALUES (?, ?, ?)";
+    private static final String INSERT_PRODUCT =
+            "INSERT INTO products (id, name, price, category_id, sku, email_for_warranty, discount_percentage, "
+                    + "availability_date, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_TAG =
+            "INSERT INTO product_tags (product_id, tag) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate snapshotTransactionTemplate;
+    private final OutboxEventRepository outboxEventRepository;
+    private final Path file;
+    private final int batchSize;
+
+    /**
+     * Outbox offset covered by the last snapshot written or restored. It never
+     * decreases: purging old outbox events lowers the highest stored id, but
+     * the identity keeps counting from where it was.
+     */
+    private long snapshotOffset = -1;
+
+    public CatalogSnapshotService(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  OutboxEventRepository outboxEventRepository,
+                                  @Value("${app.snapshot.file:data/catalog.snapshot}") Path file,
+                                  @Value("${app.snapshot.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // The three tables are read with separate queries; they must see the same
+        // state, or the file can hold products or tags whose parent rows it lacks.
+        this.snapshotTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+        this.snapshotTransactionTemplate.setReadOnly(true);
+        this.outboxEventRepository = outboxEventRepository;
+        this.file = file;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        snapshotOffset = outboxEventRepository.findMaxId();
+        if (!Files.exists(file)) {
+            log.info("No catalog snapshot at {}, starting with the current database content", file.toAbsolutePath());
+            return;
+        }
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM categories", Long.class);
+        if (existing != null && existing > 0) {
+            log.info("Catalog already holds {} categories, snapshot {} not restored", existing, file.toAbsolutePath());
+            return;
+        }
+
+        long started = System.nanoTime();
+        try {
+            long[] counts = transactionTemplate.execute(status -> restore());
+            snapshotOffset = Math.max(snapshotOffset, counts[3]);
+            log.info("Restored {} categories, {} products and {} tags at outbox offset {} from {} in {} ms",
+                    counts[0], counts[1], counts[2], counts[3], file.toAbsolutePath(),
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            Throwable cause = e instanceof UncheckedIOException unchecked ? unchecked.getCause() : e;
+            log.warn("Could not restore catalog snapshot {}, starting with an empty catalog: {}",
+                    file.toAbsolutePath(), cause.toString());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.snapshot.interval:PT5M}", fixedDelayString = "${app.snapshot.interval:PT5M}")
+    public void scheduledSnapshot() {
+        writeIfChanged();
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void snapshotOnShutdown() {
+        writeIfChanged();
+    }
+
+    public synchronized void writeIfChanged() {
+        try {
+            long offset = Math.max(snapshotOffset, outboxEventRepository.findMaxId());
+            if (offset == snapshotOffset) {
+                return;
+            }
+            long started = System.nanoTime();
+            long[] counts = snapshotTransactionTemplate.execute(status -> write(offset));
+            snapshotOffset = offset;
+            log.info("Wrote catalog snapshot with {} categories, {} products and {} tags to {} in {} ms",
+                    counts[0], counts[1], counts[2], file.toAbsolutePath(), (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("Could not write catalog snapshot {}: {}", file.toAbsolutePath(), e.toString());
+        }
+    }
+
+    private long[] write(long outboxOffset) {
+        long[] counts = new long[3];
+        try (CatalogSnapshotFormat.Writer writer = new CatalogSnapshotFormat.Writer(file, outboxOffset)) {
+            jdbcTemplate.query("SELECT id, name, description FROM categories ORDER BY id", (RowCallbackHandler) rs -> {
+                writeRow(() -> writer.category(rs.getLong(1), rs.getString(2), rs.getString(3)));
+                counts[0]++;
+            });
+            writer.endSection();
+
+            jdbcTemplate.query("SELECT id, name, price, category_id, sku, email_for_warranty, discount_percentage, "
+                    + "availability_date, created_at FROM products ORDER BY id", (RowCallbackHandler) rs -> {
+                int discount = rs.getInt(7);
+                Integer discountPercentage = rs.wasNull() ? null : discount;
+                writeRow(() -> writer.product(rs.getLong(1), rs.getString(2), rs.getDouble(3), rs.getLong(4),
+                        rs.getString(5), rs.getString(6), discountPercentage, rs.getDate(8), rs.getTimestamp(9)));
+                counts[1]++;
+            });
+            writer.endSection();
+
+            jdbcTemplate.query("SELECT product_id, tag FROM product_tags", (RowCallbackHandler) rs -> {
+                writeRow(() -> writer.tag(rs.getLong(1), rs.getString(2)));
+                counts[2]++;
+            });
+            writer.endSection();
+
+            writer.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return counts;
+    }
+
+    private long[] restore() {
+        BatchInserter categories = new BatchInserter(INSERT_CATEGORY);
+        BatchInserter products = new BatchInserter(INSERT_PRODUCT);
+        BatchInserter tags = new BatchInserter(INSERT_TAG);
+        long outboxOffset;
+        try {
+            outboxOffset = CatalogSnapshotFormat.read(file, new CatalogSnapshotFormat.RowSink() {
+                @Override
+                public void category(Object[] row) {
+                    categories.add(row);
+                }
+
+                @Override
+                public void product(Object[] row) {
+                    categories.flush();
+                    products.add(row);
+                }
+
+                @Override
+                public void tag(Object[] row) {
+                    products.flush();
+                    tags.add(row);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        categories.flush();
+        products.flush();
+        tags.flush();
+
+        restartIdentity("categories", 0);
+        restartIdentity("products", 0);
+        restartIdentity("outbox_events", outboxOffset);
+        return new long[] {categories.count, products.count, tags.count, outboxOffset};
+    }
+
+    private void restartIdentity(String table, long minimumId) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (Math.max(maxId, minimumId) + 1));
+    }
+
+    private static void writeRow(RowWrite write) throws SQLException {
+        try {
+            write.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWrite {
+
+        void run() throws IOException, SQLException;
+    }
+
+    private final class BatchInserter {
+
+        private final String sql;
+        private final List<Object[]> pending = new ArrayList<>(batchSize);
+        private long count;
+
+        BatchInserter(String sql) {
+            this.sql = sql;
+        }
+
+        void add(Object[] row) {
+            pending.add(row);
+            count++;
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!pending.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, pending);
+                pending.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.starterkit.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starterkit.api.repository.CategoryRepository;
+import com.starterkit.api.repository.ProductRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProductFieldsTests {
+
+	private static final String CATEGORY = "Projections";
+	private static final String NAME = "Projected product";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@BeforeEach
+	void createProduct() throws Exception {
+		if (productRepository.existsBySku("FIELDS01")) {
+			return;
+		}
+		mockMvc.perform(post("/api/categories")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"name\":\"%s\",\"description\":\"Category used by field selection tests\"}".formatted(CATEGORY)))
+			.andExpect(status().isCreated());
+
+		Long categoryId = categoryRepository.findByName(CATEGORY).orElseThrow().getId();
+		mockMvc.perform(post("/api/products")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("""
+					{"name":"%s","price":10.5,"categoryId":%d,"sku":"FIELDS01","tags":["x","y"],
+					 "createdAt":"%s","availabilityDate":"%s"}
+					""".formatted(NAME, categoryId, LocalDate.now().minusDays(1), LocalDate.now().plusDays(1))))
+			.andExpect(status().isCreated());
+	}
+
+	@Test
+	void selectedFieldsAreReturnedInRequestedOrder() throws Exception {
+		Map<String, Object> product = fetch("name,id").stream()
+			.filter(row -> NAME.equals(row.get("name")))
+			.findFirst()
+			.orElseThrow();
+
+		assertThat(product.keySet()).containsExactly("name", "id");
+		assertThat(product.get("id")).isNotNull();
+	}
+
+	@Test
+	void tagsAndCategoryHoldTheirValues() throws Exception {
+		Map<String, Object> product = fetch("tags,category").stream()
+			.filter(row -> CATEGORY.equals(row.get("category")))
+			.findFirst()
+			.orElseThrow();
+
+		assertThat(product.keySet()).containsExactly("tags", "category");
+		assertThat((List<?>) product.get("tags")).containsExactlyInAnyOrder("x", "y");
+	}
+
+	@Test
+	void unknownFieldIsRejected() throws Exception {
+		mockMvc.perform(get("/api/products").param("fields", "id,color"))
+			.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void emptyFieldListIsRejected() throws Exception {
+		mockMvc.perform(get("/api/products").param("fields", ""))
+			.andExpect(status().isBadRequest());
+	}
+
+	private List<LinkedHashMap<String, Object>> fetch(String fields) throws Exception {
+		MvcResult result = mockMvc.perform(get("/api/products").param("fields", fields))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+		String body = mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().isOk())
+			.andReturn()
+			.getResponse()
+			.getContentAsString();
+		return objectMapper.readValue(body, new TypeReference<>() {});
+	}
+}
@@ -0,0 +1,87 @@
+package com.starterkit.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.starterkit.api.monitoring.SqlStatementRecorder;
+import com.starterkit.api.monitoring.SqlStatisticsResponseAdvice;
+import com.starterkit.api.repository.CategoryRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SqlStatementCountTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@BeforeEach
+	void createCatalog() throws Exception {
+		if (categoryRepository.findByName("Statements").isPresent()) {
+			return;
+		}
+		mockMvc.perform(post("/api/categories")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"name\":\"Statements\",\"description\":\"Category used by SQL count tests\"}"))
+			.andExpect(status().isCreated());
+
+		Long categoryId = categoryRepository.findByName("Statements").orElseThrow().getId();
+		for (String sku : new String[] {"SQLCNT01", "SQLCNT02"}) {
+			mockMvc.perform(post("/api/products")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content("""
+						{"name":"Counted product","price":10.5,"categoryId":%d,"sku":"%s","tags":["a","b"],
+						 "createdAt":"%s","availabilityDate":"%s"}
+						""".formatted(categoryId, sku, LocalDate.now().minusDays(1), LocalDate.now().plusDays(1))))
+				.andExpect(status().isCreated());
+		}
+	}
+
+	@Test
+	void listingCategoriesRunsOneStatement() throws Exception {
+		try (SqlStatementRecorder.Recording recording = SqlStatementRecorder.start()) {
+			MvcResult result = mockMvc.perform(get("/api/categories"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+			mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(header().string(SqlStatisticsResponseAdvice.STATEMENTS_HEADER, "1"));
+
+			assertThat(recording.statistics().getStatements()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	void projectedProductListDoesNotLoadCategoryOrTags() throws Exception {
+		try (SqlStatementRecorder.Recording recording = SqlStatementRecorder.start()) {
+			MvcResult result = mockMvc.perform(get("/api/products").param("fields", "id,name,price,sku"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+			mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk());
+
+			assertThat(recording.statistics().getStatements()).isEqualTo(1);
+			assertThat(recording.statistics().getRowsFetched()).isGreaterThanOrEqualTo(2);
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package com.starterkit.api.mapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.starterkit.api.dto.response.ProductResponse;
+import com.starterkit.api.entity.Category;
+import com.starterkit.api.entity.Product;
+
+/**
+ * Compares the former hand-written builder mapping with the generated
+ * {@link ProductMapper} on large product lists. Run with
+ * {@code mvn -Pbenchmark test-compile exec:exec} and compare
+ * {@code gc.alloc.rate.norm} (bytes per list) between the methods.
+ * <p>
+ * The former mapping shared the entity's tag list while the generated one
+ * copies it, so {@link #builderMappingWithTagCopy()} is the like-for-like
+ * baseline for the builder and stream overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductMappingBenchmark {
+
+	@Param({"1000", "100000"})
+	private int size;
+
+	private final ProductMapper generated = new ProductMapperImpl();
+
+	private List<Product> products;
+
+	@Setup
+	public void createProducts() {
+		Category category = new Category(1L, "Electronics", "Devices", null);
+		products = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			products.add(new Product((long) i, "Product " + i, 10.0 + i % 100, category,
+					"SKU%05d".formatted(i % 100_000), "support@example.com", i % 80,
+					LocalDate.of(2030, 1, 1), LocalDateTime.of(2025, 1, 1, 0, 0),
+					new ArrayList<>(List.of("tag-a", "tag-b", "tag-" + i % 10))));
+		}
+	}
+
+	@Benchmark
+	public List<ProductResponse> builderMapping() {
+		return products.stream()
+				.map(ProductMappingBenchmark::builderToResponse)
+				.toList();
+	}
+
+	@Benchmark
+	public List<ProductResponse> builderMappingWithTagCopy() {
+		return products.stream()
+				.map(ProductMappingBenchmark::builderToResponse)
+				.peek(response -> response.setTags(Collections.unmodifiableList(new ArrayList<>(response.getTags()))))
+				.toList();
+	}
+
+	@Benchmark
+	public List<ProductResponse> generatedMapping() {
+		return generated.toResponseList(products);
+	}
+
+	/** The mapping used before the generated mapper, kept as the baseline. */
+	private static ProductResponse builderToResponse(Product product) {
+		return ProductResponse.builder()
+				.id(product.getId())
+				.name(product.getName())
+				.price(product.getPrice())
+				.sku(product.getSku())
+				.tags(product.getTags())
+				.emailForWarranty(product.getEmailForWarranty())
+				.discountPercentage(product.getDiscountPercentage())
+				.availabilityDate(product.getAvailabilityDate())
+				.category(product.getCategory() != null ? product.getCategory().getName() : null)
+				.build();
+	}
+}
@@ -0,0 +1,97 @@
+package com.starterkit.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.starterkit.api.entity.ChangeEventType;
+
+@SpringBootTest(properties = {
+	"app.change-feed.subscriber-buffer=4",
+	"app.change-feed.poll-interval=PT0.05S",
+	"app.change-feed.heartbeat-interval=PT1H"
+})
+@ActiveProfiles("test")
+class ChangeFeedSlowSubscriberTests {
+
+	private static final int EVENTS = 20;
+
+	@Autowired
+	private ChangeFeedService changeFeedService;
+
+	@Autowired
+	private OutboxService outboxService;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void stalledSubscriberIsDroppedWithoutDelayingOthers() throws Exception {
+		CountDownLatch unblock = new CountDownLatch(1);
+		RecordingEmitter stalled = new RecordingEmitter(unblock);
+		RecordingEmitter healthy = new RecordingEmitter(null);
+		try {
+			changeFeedService.register(stalled, null);
+			changeFeedService.register(healthy, null);
+
+			TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+			for (int i = 0; i < EVENTS; i++) {
+				long aggregateId = i;
+				transaction.executeWithoutResult(status ->
+						outboxService.record(ChangeEventType.CATEGORY_CREATED, aggregateId, Map.of("index", aggregateId)));
+			}
+
+			assertThat(stalled.failed.await(10, TimeUnit.SECONDS)).isTrue();
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+			while (healthy.sent.get() < EVENTS && System.nanoTime() < deadline) {
+				Thread.sleep(20);
+			}
+			assertThat(healthy.sent.get()).isEqualTo(EVENTS);
+			assertThat(healthy.failed.getCount()).isEqualTo(1);
+		} finally {
+			unblock.countDown();
+		}
+	}
+
+	/** Counts sends instead of writing them; optionally blocks every send until released. */
+	private static final class RecordingEmitter extends SseEmitter {
+
+		private final CountDownLatch unblock;
+		private final AtomicInteger sent = new AtomicInteger();
+		private final CountDownLatch failed = new CountDownLatch(1);
+
+		RecordingEmitter(CountDownLatch unblock) {
+			this.unblock = unblock;
+		}
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			if (unblock != null) {
+				try {
+					unblock.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IOException(e);
+				}
+			}
+			sent.incrementAndGet();
+		}
+
+		@Override
+		public void completeWithError(Throwable ex) {
+			failed.countDown();
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package com.starterkit.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.starterkit.api.entity.ChangeEventType;
+import com.starterkit.api.entity.OutboxEvent;
+import com.starterkit.api.repository.OutboxEventRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OutboxCommitOrderTests {
+
+	@Autowired
+	private OutboxService outboxService;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void eventWithLowerIdCommittedLastIsNotSkipped() throws Exception {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		long start = outboxService.committedOffset();
+		CountDownLatch firstRecorded = new CountDownLatch(1);
+		CountDownLatch secondCommitted = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Long> first = executor.submit(() -> transaction.execute(status -> {
+				long id = outboxService.record(ChangeEventType.CATEGORY_CREATED, 1L, Map.of("name", "first"));
+				firstRecorded.countDown();
+				await(secondCommitted);
+				return id;
+			}));
+			assertThat(firstRecorded.await(10, TimeUnit.SECONDS)).isTrue();
+
+			long second = transaction.execute(status ->
+					outboxService.record(ChangeEventType.CATEGORY_CREATED, 2L, Map.of("name", "second")));
+
+			// The second event is committed, but reading it now would move readers past the first one
+			long offset = outboxService.committedOffset();
+			assertThat(offset).isLessThan(second);
+			assertThat(eventIds(start, offset)).isEmpty();
+
+			secondCommitted.countDown();
+			long firstId = first.get(10, TimeUnit.SECONDS);
+			assertThat(firstId).isLessThan(second);
+
+			long committed = outboxService.committedOffset();
+			assertThat(committed).isGreaterThanOrEqualTo(second);
+			assertThat(eventIds(start, committed)).containsSubsequence(firstId, second);
+		} finally {
+			secondCommitted.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	private List<Long> eventIds(long after, long upTo) {
+		return outboxEventRepository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(after, upTo, PageRequest.ofSize(100))
+			.stream()
+			.map(OutboxEvent::getId)
+			.toList();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package com.starterkit.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReadCoalescerTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final ReadCoalescer readCoalescer = new ReadCoalescer(meterRegistry);
+
+	@Test
+	void concurrentIdenticalReadsShareOneExecution() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger executions = new AtomicInteger();
+		List<String> result = List.of("a", "b");
+
+		CompletableFuture<CompletableFuture<List<String>>> leader = CompletableFuture.supplyAsync(() ->
+				readCoalescer.coalesce("products.fields", "name,id", () -> {
+					executions.incrementAndGet();
+					loading.countDown();
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return result;
+				}));
+		assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+		CompletableFuture<List<String>> follower = readCoalescer.coalesce("products.fields", "name,id", () -> {
+			executions.incrementAndGet();
+			return List.of();
+		});
+		assertThat(follower).isNotDone();
+
+		release.countDown();
+		assertThat(leader.get(5, TimeUnit.SECONDS).get()).isSameAs(result);
+		assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(result);
+		assertThat(executions).hasValue(1);
+		assertThat(count("executed")).isEqualTo(1);
+		assertThat(count("coalesced")).isEqualTo(1);
+	}
+
+	private double count(String outcome) {
+		return meterRegistry.get("app.reads")
+			.tag("operation", "products.fields")
+			.tag("outcome", outcome)
+			.counter()
+			.count();
+	}
+}